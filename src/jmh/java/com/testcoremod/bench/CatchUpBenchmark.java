@@ -0,0 +1,52 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmSaveFormat;
+import com.testcoremod.farm.FarmSimulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline catch-up ({@code Farm.catchUpOfflineGrowth()} on load):
+ * {@link FarmSimulation#catchUp} over the time the game was closed.
+ *
+ * Catch-up mutates the farm, so each invocation starts from the same
+ * freshly decoded farm; the restore happens in an invocation-level setup
+ * and is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatchUpBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    public int plots;
+
+    /** Offline time: a minute, an hour, a week. */
+    @Param({"1", "60", "10080"})
+    public int elapsedMinutes;
+
+    private ByteBuffer     saved;
+    private FarmData       data;
+    private FarmSimulation sim;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        saved = FarmSaveFormat.encode(Farms.planted(plots));
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        data = new FarmData();
+        FarmSaveFormat.decode(saved.duplicate(), data);
+        sim = new FarmSimulation(data);
+    }
+
+    @Benchmark
+    public FarmSimulation.CatchUpResult catchUp() {
+        return sim.catchUp(elapsedMinutes * 60L * 20L);
+    }
+}
@@ -0,0 +1,41 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmRules;
+import com.testcoremod.farm.PlotStore;
+
+import java.util.SplittableRandom;
+
+/**
+ * Farms — reproducible farm fixtures for the benchmarks.
+ *
+ * Every plot is planted (crops cycle through all types), half are watered,
+ * a few have Lucky Water, and growth is spread over [0, 1) so maturities
+ * are spread out the way a real mid-game farm's are. Same seed, same farm.
+ */
+final class Farms {
+
+    private Farms() {}
+
+    static final long SEED = 0x5EEDF4A3L;
+
+    /** A fully planted farm of {@code plots} plots with some upgrades bought. */
+    static FarmData planted(int plots) {
+        FarmData data = new FarmData();
+        data.plots.resize(plots);
+        data.soilLevel    = 2;
+        data.qualityLevel = 1;
+        data.luckyLevel   = 2;
+        data.goldMagnet   = true;
+        SplittableRandom rng = new SplittableRandom(SEED);
+        PlotStore p = data.plots;
+        for (int i = 0; i < plots; i++) {
+            p.type[i]     = i % FarmRules.CROP_COUNT;
+            p.lastType[i] = p.type[i];
+            p.growth[i]   = (float) rng.nextDouble(0.0, 0.999);
+            p.watered[i]  = (i & 1) == 0;
+            p.lucky[i]    = p.watered[i] && rng.nextInt(8) == 0;
+        }
+        return data;
+    }
+}
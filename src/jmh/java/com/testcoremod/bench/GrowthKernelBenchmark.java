@@ -0,0 +1,84 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmSimulation;
+import com.testcoremod.farm.GrowthKernels;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bulk growth loops ({@link GrowthKernels}), scalar against
+ * {@link GrowthKernels#SIMD}: {@code sync} is what {@link FarmSimulation#syncAll}
+ * runs before every save, {@code grow} is one window of offline catch-up.
+ *
+ * Inputs are the rates and growth of a planted farm ({@link Farms}); the
+ * anchors are spread out as if plots had been replanted at different
+ * times. {@code grow} mutates, so it restores its arrays per invocation.
+ * The vector runs need {@code --add-modules jdk.incubator.vector} at run
+ * time (set in build.gradle); compiling the benchmarks doesn't.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrowthKernelBenchmark {
+
+    @Param({"1000", "100000"})
+    public int plots;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private static final float  CAP   = Math.nextDown(1.0f);
+    private static final double CLOCK = 5000.0;
+
+    private float[]  growth, anchorGrowth, rate, growth0, rate0;
+    private double[] anchorClock;
+    private GrowthKernels.Kernel vector;  // null for the scalar runs
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FarmData data = Farms.planted(plots);
+        FarmSimulation sim = new FarmSimulation(data);
+        SplittableRandom rng = new SplittableRandom(Farms.SEED);
+        growth       = new float[plots];
+        anchorGrowth = data.plots.growth.clone();
+        rate         = new float[plots];
+        anchorClock  = new double[plots];
+        for (int i = 0; i < plots; i++) {
+            rate[i]        = (i % 10 == 9) ? 0f : sim.growthRate(i);  // every tenth plot idle
+            anchorClock[i] = rng.nextDouble(0, CLOCK);
+        }
+        growth0 = anchorGrowth.clone();
+        rate0   = rate.clone();
+        if (kernel.equals("vector")) {
+            vector = GrowthKernels.SIMD;
+            if (vector == null) throw new IllegalStateException("Vector kernel unavailable (jdk.incubator.vector not loaded)");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(growth0, 0, growth, 0, plots);
+        System.arraycopy(rate0, 0, rate, 0, plots);
+    }
+
+    @Benchmark
+    public float[] sync() {
+        if (vector != null) {
+            vector.sync(growth, anchorGrowth, rate, anchorClock, CLOCK, CAP, plots);
+        } else {
+            GrowthKernels.syncScalar(growth, anchorGrowth, rate, anchorClock, CLOCK, CAP, 0, plots);
+        }
+        return growth;
+    }
+
+    @Benchmark
+    public int grow() {
+        return vector != null
+                ? vector.grow(growth, rate, 1.4f, 1200.0, plots)
+                : GrowthKernels.growScalar(growth, rate, 1.4f, 1200.0, 0, plots);
+    }
+}
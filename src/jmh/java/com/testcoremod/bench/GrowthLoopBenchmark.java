@@ -0,0 +1,57 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmSimulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-tick growth loop, as driven by {@code SampleMenuScreen.tick()}:
+ * {@link FarmSimulation#step} for the elapsed ticks, then a sync of the six
+ * plots on the visible grid page.
+ *
+ * Matured plots are replanted on the spot, so long runs keep firing
+ * maturity events instead of settling into an all-ripe farm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrowthLoopBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    public int plots;
+
+    /** Ticks per call: one frame's tick, one second, one minute. */
+    @Param({"1", "20", "1200"})
+    public int elapsedTicks;
+
+    private FarmData       data;
+    private FarmSimulation sim;
+    private FarmSimulation.Listener replant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = Farms.planted(plots);
+        sim  = new FarmSimulation(data);
+        replant = new FarmSimulation.Listener() {
+            @Override
+            public void onPlotMatured(int plot) {
+                data.plots.growth[plot] = 0f;
+                sim.replan(plot);
+            }
+        };
+    }
+
+    @Benchmark
+    public float step() {
+        sim.step(elapsedTicks, replant);
+        float visible = 0f;
+        for (int i = 0, n = Math.min(6, plots); i < n; i++) {
+            sim.sync(i);
+            visible += data.plots.growth[i];
+        }
+        return visible;
+    }
+}
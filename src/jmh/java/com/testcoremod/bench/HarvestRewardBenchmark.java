@@ -0,0 +1,60 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmRandom;
+import com.testcoremod.farm.FarmRules;
+import com.testcoremod.farm.FarmSimulation;
+import com.testcoremod.farm.PlotStore;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The harvest reward roll from {@code SampleMenuScreen.onHarvest()}
+ * ({@link FarmRules#rollReward} + {@link FarmRules#rollLucky}), applied to
+ * every plot that is ripe after {@code elapsedTicks} — i.e. the cost of a
+ * Harvest All, without the UI.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HarvestRewardBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    public int plots;
+
+    /** Growing time before the harvest: a minute, ten minutes, an hour. */
+    @Param({"1200", "12000", "72000"})
+    public int elapsedTicks;
+
+    private FarmData data;
+    private int[]    ripe;
+    private int      ripeCount;
+    private FarmRandom rng;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = Farms.planted(plots);
+        FarmSimulation sim = new FarmSimulation(data);
+        sim.step(elapsedTicks);
+        PlotStore p = data.plots;
+        ripe = new int[plots];
+        for (int i = 0; i < plots; i++) {
+            if (p.type[i] >= 0 && p.growth[i] >= 1.0f) ripe[ripeCount++] = i;
+        }
+        rng = new FarmRandom(Farms.SEED);
+    }
+
+    @Benchmark
+    public long harvestAll() {
+        int[] type = data.plots.type;
+        long gold = 0;
+        for (int k = 0; k < ripeCount; k++) {
+            int reward = FarmRules.rollReward(data, type[ripe[k]], rng);
+            if (FarmRules.rollLucky(data, rng)) reward *= 2;
+            gold += reward;
+        }
+        return gold;
+    }
+}
@@ -0,0 +1,82 @@
+package com.testcoremod.bench;
+
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmSaveFormat;
+import com.testcoremod.farm.FarmSimulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link FarmData#saveToFile} / {@link FarmData#loadFromFile} against a
+ * temp directory, plus the in-memory encode/decode they wrap, so disk time
+ * and format time can be told apart.
+ *
+ * The farm is played for {@code elapsedTicks} before saving, which changes
+ * the mix of growing, ripe and dry plots being written.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveLoadBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    public int plots;
+
+    /** Play time before the save: fresh, ten minutes, an hour. */
+    @Param({"0", "12000", "72000"})
+    public int elapsedTicks;
+
+    private Path       dir;
+    private FarmData   data;
+    private ByteBuffer encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = Farms.planted(plots);
+        FarmSimulation sim = new FarmSimulation(data);
+        sim.step(elapsedTicks);
+        sim.syncAll();
+        encoded = FarmSaveFormat.encode(data);
+        dir = Files.createTempDirectory("farm-bench");
+        data.saveToFile(dir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveToFile() {
+        data.saveToFile(dir);
+    }
+
+    @Benchmark
+    public FarmData loadFromFile() {
+        FarmData loaded = new FarmData();
+        loaded.loadFromFile(dir);
+        return loaded;
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        return FarmSaveFormat.encode(data);
+    }
+
+    @Benchmark
+    public FarmData decode() {
+        FarmData decoded = new FarmData();
+        FarmSaveFormat.decode(encoded.duplicate(), decoded);
+        return decoded;
+    }
+}
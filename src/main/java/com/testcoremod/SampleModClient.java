@@ -1,9 +1,14 @@
 package com.testcoremod;
 
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.testcoremod.farm.PlotStore;
 import com.testcoremod.gui.SampleMenuScreen;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.minecraft.client.MinecraftClient;
@@ -13,6 +18,7 @@ import org.lwjgl.glfw.GLFW;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.argument;
 import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
 
 /**
@@ -21,6 +27,15 @@ import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.lit
  * Registers client-side commands:
  *   /uisample        →  opens SampleMenuScreen
  *   /uisample reset  →  wipes saved farm data and starts fresh
+ *   /uisample plots <count>  →  resizes the farm to <count> plots
+ *   /uisample seed <seed>    →  reseeds the farm's reward RNG
+ *   /uisample record start|stop  →  records inputs to farm_replay.dat
+ *   /uisample replay         →  re-runs farm_replay.dat headless and checks the result
+ *   /uisample farm <name>    →  shows (and creates if new) the farm called <name>
+ *   /uisample farms          →  lists the loaded farms
+ *   /uisample budget [µs]    →  shows / sets the background simulation's per-tick budget
+ *   /uisample stats [on|off|reset]  →  latency/allocation stats (F6 shows them live)
+ *   /uisample log [capacity <n>|file on|off]  →  activity log size / rotating file
  *
  * Uses the modern Fabric ClientCommandRegistrationCallback (1.21.11).
  */
@@ -49,7 +64,7 @@ public class SampleModClient implements ClientModInitializer {
                 literal("uisample")
                     .executes(context -> {
                         MinecraftClient.getInstance().execute(() -> {
-                            MinecraftClient.getInstance().setScreen(new SampleMenuScreen());
+                            MinecraftClient.getInstance().setScreen(SampleMenuScreen.open());
                         });
                         return 1;
                     })
@@ -59,14 +74,122 @@ public class SampleModClient implements ClientModInitializer {
                                 Text.literal("\u00A7a\u2618 Farm data reset! Open /uisample to start fresh."));
                         return 1;
                     }))
+                    .then(literal("plots")
+                        .then(argument("count", IntegerArgumentType.integer(1, PlotStore.MAX_PLOTS))
+                            .executes(context -> {
+                                int n = SampleMenuScreen.resizeFarm(
+                                        IntegerArgumentType.getInteger(context, "count"));
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u2618 Farm resized to " + n + " plots."));
+                                return 1;
+                            })))
+                    .then(literal("seed")
+                        .then(argument("seed", LongArgumentType.longArg())
+                            .executes(context -> {
+                                long seed = LongArgumentType.getLong(context, "seed");
+                                SampleMenuScreen.seedFarm(seed);
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u2618 Farm RNG seeded with " + seed + "."));
+                                return 1;
+                            })))
+                    .then(literal("record")
+                        .then(literal("start").executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u25CF " + SampleMenuScreen.startRecording()));
+                            return 1;
+                        }))
+                        .then(literal("stop").executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u25A0 " + SampleMenuScreen.stopRecording()));
+                            return 1;
+                        })))
+                    .then(literal("replay").executes(context -> {
+                        context.getSource().sendFeedback(
+                                Text.literal("\u00A7a\u25B6 " + SampleMenuScreen.replayRecording()));
+                        return 1;
+                    }))
+                    .then(literal("farm")
+                        .then(argument("name", StringArgumentType.greedyString())
+                            .executes(context -> {
+                                String name = StringArgumentType.getString(context, "name");
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u2618 " + SampleMenuScreen.switchFarm(name)));
+                                return 1;
+                            })))
+                    .then(literal("budget")
+                        .executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u23F1 " + SampleMenuScreen.tickBudgetStatus()));
+                            return 1;
+                        })
+                        .then(argument("micros", IntegerArgumentType.integer(0, 50_000))
+                            .executes(context -> {
+                                int us = IntegerArgumentType.getInteger(context, "micros");
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u23F1 " + SampleMenuScreen.setTickBudget(us)));
+                                return 1;
+                            })))
+                    .then(literal("log")
+                        .executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u2630 " + SampleMenuScreen.logStatus()));
+                            return 1;
+                        })
+                        .then(literal("capacity")
+                            .then(argument("entries", IntegerArgumentType.integer(5, 100_000))
+                                .executes(context -> {
+                                    int n = IntegerArgumentType.getInteger(context, "entries");
+                                    context.getSource().sendFeedback(
+                                            Text.literal("\u00A7a\u2630 " + SampleMenuScreen.setLogCapacity(n)));
+                                    return 1;
+                                })))
+                        .then(literal("file")
+                            .then(literal("on").executes(context -> {
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u2630 " + SampleMenuScreen.setLogFile(true)));
+                                return 1;
+                            }))
+                            .then(literal("off").executes(context -> {
+                                context.getSource().sendFeedback(
+                                        Text.literal("\u00A7a\u2630 " + SampleMenuScreen.setLogFile(false)));
+                                return 1;
+                            }))))
+                    .then(literal("stats")
+                        .executes(context -> {
+                            for (String line : SampleMenuScreen.statsReport().split("\n")) {
+                                context.getSource().sendFeedback(Text.literal("\u00A7a" + line));
+                            }
+                            return 1;
+                        })
+                        .then(literal("on").executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u23F1 " + SampleMenuScreen.setStatsRecording(true)));
+                            return 1;
+                        }))
+                        .then(literal("off").executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u23F1 " + SampleMenuScreen.setStatsRecording(false)));
+                            return 1;
+                        }))
+                        .then(literal("reset").executes(context -> {
+                            context.getSource().sendFeedback(
+                                    Text.literal("\u00A7a\u23F1 " + SampleMenuScreen.resetStats()));
+                            return 1;
+                        })))
+                    .then(literal("farms").executes(context -> {
+                        for (String line : SampleMenuScreen.listFarms().split("\n")) {
+                            context.getSource().sendFeedback(Text.literal("\u00A7a" + line));
+                        }
+                        return 1;
+                    }))
             );
         });
-        // ── Background crop growth ticker + hotkey check ───────────────
+        // ── Background crop growth (every farm, in parallel) + hotkey check ──
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             // Hotkey: open Virtual Farm screen
             while (openFarmKey.wasPressed()) {
                 if (client.currentScreen == null) {
-                    client.setScreen(new SampleMenuScreen());
+                    client.setScreen(SampleMenuScreen.open());
                 }
             }
 
@@ -84,6 +207,8 @@ public class SampleModClient implements ClientModInitializer {
                         0.5f, 1.4f);
             }
         });
+        // ── Flush the farm save before the game exits ────────────────
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> SampleMenuScreen.onClientStopping());
         LOGGER.info("[TestCoreMod] Client initialized — use /uisample to open the test UI.");
     }
 }
@@ -0,0 +1,230 @@
+package com.testcoremod.farm;
+
+import com.testcoremod.metrics.Metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Farm — one named farm: its state, engine, journal and save files.
+ *
+ * Everything a farm touches while it ticks is reachable only from here, so
+ * {@link FarmScheduler} can step different farms on different threads with
+ * no locking. A farm is stepped by one thread at a time; anything the game
+ * thread needs to hear about (a crop maturing) is kept in plain fields and
+ * collected with {@link #takeNotice()} after the step has been joined.
+ */
+public final class Farm {
+
+    private static final int JOURNAL_CLOCK_TICKS    = 600;        // wall-clock marker every 30s
+    private static final int SNAPSHOT_TICKS         = 6000;       // compact the journal every 5 min…
+    private static final int SNAPSHOT_JOURNAL_BYTES = 64 * 1024;  // …or once it grows past 64 KB
+    /** Owed ticks past which {@link #advance} integrates them in one catch-up instead of stepping. */
+    static final int CATCH_UP_TICKS = 100;
+
+    /** Directory-safe key ({@link FarmScheduler#idOf}). */
+    public final String         id;
+    public final Path           dir;
+    public final FarmData       data;
+    public final FarmSimulation sim;
+    public final SaveService    saves;
+    public final FarmJournal    journal;
+
+    /** Farm tick of the last snapshot, for periodic journal compaction. */
+    private long lastSnapshotTick;
+    /** Farm tick at the last {@link #persistTick()}, so clock markers survive catch-up jumps. */
+    private long lastPersistTick;
+    /** Journal records re-applied on load. */
+    private final int recovered;
+    /** Set if a scheduled tick threw; the scheduler then unloads the farm. */
+    RuntimeException fault;
+    /** Client ticks handed to this farm by the scheduler but not simulated yet. */
+    long owed;
+    /** Of the scheduler's not-yet-handed-out ticks, those on which the screen drove this farm (game thread only). */
+    int shownTicks;
+    /** Times {@link #advance} fell back to an analytic catch-up. */
+    long catchUps;
+
+    // ── Notices (written by the stepping thread, read after the join) ──
+    private int maturedCount;
+    private int lastMaturedPlot;
+    private int lastMaturedType;
+    private final FarmSimulation.Listener noticeListener = new FarmSimulation.Listener() {
+        @Override
+        public void onPlotMatured(int i) {
+            if (maturedCount++ > 0 && lastMaturedPlot < 0) return;  // already a bulk notice
+            lastMaturedPlot = i;
+            lastMaturedType = data.plots.type[i];
+        }
+    };
+
+    private Farm(String id, Path dir, FarmData data, SaveService saves) {
+        this.id      = id;
+        this.dir     = dir;
+        this.data    = data;
+        this.sim     = new FarmSimulation(data);  // schedules maturities from the loaded plots
+        this.saves   = saves;
+        this.recovered = replayJournal();
+        this.journal   = new FarmJournal(data, saves);
+        this.lastSnapshotTick = data.ticks;
+        this.lastPersistTick  = data.ticks;
+    }
+
+    /**
+     * Load the farm saved in {@code dir} (snapshot, then any journal after
+     * it, then offline catch-up), or start a fresh one called {@code name}.
+     */
+    public static Farm load(String id, String name, Path dir, ExecutorService writer) {
+        SaveService saves = new SaveService(dir.resolve(FarmData.SAVE_FILE), writer);
+        saves.flush(1000);  // a pending reset/delete must land before we read
+        FarmData data = new FarmData();
+        boolean loaded = data.loadFromFile(dir);
+        if (!loaded) data.farmName = name;
+        Farm farm = new Farm(id, dir, data, saves);
+        if (!loaded && farm.recovered == 0) {
+            System.out.println("[TestCoreMod] No save found for '" + name + "', starting fresh farm.");
+        } else {
+            System.out.println("[TestCoreMod] Farm '" + data.farmName + "' loaded from disk!");
+            // Catch up growth from the time the game was closed. Within a
+            // session the scheduler keeps the farm current instead.
+            farm.catchUpOfflineGrowth();
+        }
+        if (farm.recovered > 0) farm.save();  // fold the recovered journal into a fresh snapshot
+        return farm;
+    }
+
+    /** Re-apply journal records newer than the snapshot (after a crash). */
+    private int replayJournal() {
+        Path file = saves.journalFile();
+        try {
+            if (!Files.exists(file)) return 0;
+            int replayed = FarmJournal.replay(ByteBuffer.wrap(Files.readAllBytes(file)), data, sim);
+            if (replayed > 0) {
+                System.out.println("[TestCoreMod] Recovered " + replayed + " journaled action(s) for '"
+                        + data.farmName + "'.");
+            }
+            return replayed;
+        } catch (Exception e) {
+            System.err.println("[TestCoreMod] Failed to replay farm journal: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Simulate crop growth that would have occurred while the game was closed.
+     * Uses saved lastClosedTime to compute elapsed ticks, then integrates them
+     * in closed form (piecewise over seasons and the water window) — a month
+     * away costs the same as a minute.
+     */
+    private void catchUpOfflineGrowth() {
+        if (data.lastClosedTime <= 0) return;
+        long elapsedMs = System.currentTimeMillis() - data.lastClosedTime;
+        if (elapsedMs <= 500) return; // ignore sub-second gaps
+
+        long elapsedTicks = elapsedMs / 50; // 20 ticks/second
+        if (elapsedTicks <= 0) return;
+
+        FarmSimulation.CatchUpResult result = sim.catchUp(elapsedTicks);
+
+        data.lastClosedTime = 0; // consumed
+
+        long secs = elapsedMs / 1000;
+        System.out.println("[TestCoreMod] Offline catch-up for '" + data.farmName + "': " + secs + "s elapsed, "
+                + result.cropsGrown + " crops grew, " + result.cropsMatured + " matured, "
+                + result.seasonsPassed + " season(s) passed.");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  TICK (on whichever thread is stepping this farm)
+    // ═══════════════════════════════════════════════════════════════════
+
+    /**
+     * Work off {@link #owed} ticks: one at a time until {@code deadline}
+     * (System.nanoTime), always at least one so every farm progresses.
+     * Once more than {@link #CATCH_UP_TICKS} are owed, they are integrated
+     * in one closed-form {@link FarmSimulation#catchUp} instead — same
+     * state up to float rounding, so not while a recording needs the
+     * exact per-tick path.
+     */
+    void advance(long deadline) {
+        long probe = Metrics.FARM_STEP.begin();
+        if (owed >= CATCH_UP_TICKS && journal.recording() == null) {
+            FarmSimulation.CatchUpResult result = sim.catchUp(owed);
+            owed = 0;
+            catchUps++;
+            if (result.cropsMatured > 0) {
+                maturedCount += result.cropsMatured;
+                lastMaturedPlot = -1;  // no single plot to name
+            }
+            persistTick();
+        } else {
+            while (owed > 0) {
+                sim.step(1, noticeListener);
+                persistTick();
+                owed--;
+                if (System.nanoTime() >= deadline) break;
+            }
+        }
+        Metrics.FARM_STEP.end(probe);
+    }
+
+    /**
+     * Journal upkeep after the farm advances: clock markers and periodic
+     * compaction. A marker goes out whenever a {@link #JOURNAL_CLOCK_TICKS}
+     * boundary was crossed since the last call — a catch-up jumps many
+     * ticks at once and would rarely land on one exactly.
+     */
+    public void persistTick() {
+        if (lastPersistTick / JOURNAL_CLOCK_TICKS != data.ticks / JOURNAL_CLOCK_TICKS) {
+            journal.clock(System.currentTimeMillis());
+        }
+        lastPersistTick = data.ticks;
+        if (data.ticks - lastSnapshotTick >= SNAPSHOT_TICKS
+                || journal.bytesSinceSnapshot() >= SNAPSHOT_JOURNAL_BYTES) {
+            save();
+        }
+    }
+
+    /**
+     * Queue a save: snapshot the farm (lazily-grown plots brought up to date
+     * first) and let the save service write it off-thread.
+     */
+    public void save() {
+        sim.syncAll();
+        data.lastClosedTime = System.currentTimeMillis();  // state is current as of now
+        data.journalSeq = journal.lastSeq();
+        saves.submit(data);
+        journal.markSnapshot();
+        lastSnapshotTick = data.ticks;
+    }
+
+    /** Delete this farm's save and journal (plus {@code extra} files) after pending writes. */
+    public void delete(Path... extra) {
+        saves.delete(extra);
+    }
+
+    /** What a scheduled tick threw, or null while the farm is healthy. */
+    public RuntimeException fault() {
+        return fault;
+    }
+
+    /**
+     * The maturity message since the last call, or null — e.g. "Wheat ready
+     * in P3!", with " (+2 more)" if several plots matured, or "12 crops
+     * ready!" after a catch-up. Call on the game thread once the step is joined.
+     */
+    public String takeNotice() {
+        if (maturedCount == 0) return null;
+        String msg;
+        if (lastMaturedPlot < 0) {
+            msg = "\u2714 " + maturedCount + (maturedCount == 1 ? " crop" : " crops") + " ready!";
+        } else {
+            msg = "\u2714 " + FarmRules.CROP_NAMES[lastMaturedType] + " ready in P" + (lastMaturedPlot + 1) + "!";
+            if (maturedCount > 1) msg += " (+" + (maturedCount - 1) + " more)";
+        }
+        maturedCount = 0;
+        return msg;
+    }
+}
@@ -0,0 +1,102 @@
+package com.testcoremod.farm;
+
+import static com.testcoremod.farm.FarmRules.*;
+
+/**
+ * FarmBatch — one bulk action (harvest all, water all, replant all) applied
+ * in a single pass, with the totals the UI needs to report it once.
+ *
+ * Each plot still gets its own journal record, and harvests draw from the
+ * RNG in plot order exactly as single harvests do, so replays and recovered
+ * journals match. Gold and the harvest count are <em>not</em> applied here:
+ * the caller adds {@link #gold} and {@link #plots} to its observable state
+ * in one update each (which also journals the gold as one record).
+ * Everything else — plots, crop bank, lifetime stats, the schedule — is.
+ */
+public final class FarmBatch {
+
+    /** Plots changed. */
+    public int plots;
+    /** Net gold: rewards for a harvest, minus costs for a replant. */
+    public int gold;
+    /** Harvests that hit Lucky Harvest. */
+    public int lucky;
+    /** Plots changed, per crop. */
+    public final int[] perCrop = new int[CROP_COUNT];
+    /** Replant only: plots skipped because the gold ran out. */
+    public int unaffordable;
+
+    private FarmBatch() {}
+
+    private void count(int crop) {
+        plots++;
+        perCrop[crop]++;
+    }
+
+    /** Harvest every ripe plot. */
+    public static FarmBatch harvestAll(FarmData data, FarmSimulation sim, FarmJournal journal) {
+        FarmBatch b = new FarmBatch();
+        PlotStore plots = data.plots;
+        for (int i = 0, n = plots.size(); i < n; i++) {
+            int type = plots.type[i];
+            if (type < 0 || plots.growth[i] < 1.0f) continue;  // ripe plots are exactly 1.0, no sync needed
+            int reward = rollReward(data, type, data.rng);
+            if (rollLucky(data, data.rng)) {
+                reward *= 2;
+                b.lucky++;
+            }
+            b.gold += reward;
+            data.totalGoldEarned += reward;
+            data.cropBank[type]++;
+            journal.harvest(i, reward);
+            plots.clear(i);
+            sim.replan(i);
+            b.count(type);
+        }
+        return b;
+    }
+
+    /** Water every planted, unwatered, still-growing plot. */
+    public static FarmBatch waterAll(FarmData data, FarmSimulation sim, FarmJournal journal) {
+        FarmBatch b = new FarmBatch();
+        PlotStore plots = data.plots;
+        for (int i = 0, n = plots.size(); i < n; i++) {
+            int type = plots.type[i];
+            if (type < 0 || plots.watered[i] || plots.growth[i] >= 1.0f) continue;
+            sim.sync(i);  // bank growth at the old rate before it doubles
+            plots.watered[i] = true;
+            sim.replan(i);
+            journal.water(i, false);
+            b.count(type);
+        }
+        return b;
+    }
+
+    /**
+     * Replant every empty plot with the crop it last grew, in plot order,
+     * while {@code budget} gold lasts. Plots that never grew anything are
+     * left alone.
+     */
+    public static FarmBatch replantAll(FarmData data, FarmSimulation sim, FarmJournal journal, int budget) {
+        FarmBatch b = new FarmBatch();
+        PlotStore plots = data.plots;
+        for (int i = 0, n = plots.size(); i < n; i++) {
+            int type = plots.lastType[i];
+            if (plots.type[i] >= 0 || type < 0) continue;
+            int cost = CROP_COSTS[type];
+            if (budget + b.gold < cost) {
+                b.unaffordable++;
+                continue;
+            }
+            b.gold -= cost;
+            plots.type[i]    = type;
+            plots.growth[i]  = 0f;
+            plots.watered[i] = data.autoWater;  // Auto-Water upgrade: start pre-watered
+            plots.lucky[i]   = false;
+            sim.replan(i);
+            journal.plant(i, type, plots.watered[i]);
+            b.count(type);
+        }
+        return b;
+    }
+}
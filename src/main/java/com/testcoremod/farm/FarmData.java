@@ -0,0 +1,238 @@
+package com.testcoremod.farm;
+
+import com.testcoremod.metrics.FarmEvents;
+import com.testcoremod.metrics.Metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.testcoremod.farm.FarmRules.CROP_COUNT;
+
+/**
+ * FarmData — the persistent farm state.
+ *
+ * Lives as a static singleton for the lifetime of the JVM and is saved to
+ * disk as {@code farm_save.dat} ({@link FarmSaveFormat}) for cross-session
+ * persistence. Owned and advanced by {@link FarmSimulation}; the screen only
+ * reads it and applies player actions.
+ */
+public final class FarmData {
+
+    public static final String SAVE_FILE        = "farm_save.dat";
+    public static final String LEGACY_SAVE_FILE = "farm_save.json";  // pre-binary saves (read-only)
+    public static final int    DEFAULT_PLOTS    = 6;
+
+    /** Per-plot state (growth, crop type, water) — resizable. */
+    public final PlotStore plots = new PlotStore(DEFAULT_PLOTS);
+    public int       gold        = 50;
+    public int       harvests    = 0;
+    public int       seasonIndex = 0;
+    public int       seasonTicks = 0;
+    public int       waterTicks  = 0;   // evaporation clock (water dries every EVAPORATE_TICKS)
+    public int       selectedPlot = 0;
+    public long      lastClosedTime = 0;   // System.currentTimeMillis() at close
+    public long      ticks      = 0;      // total ticks simulated (journal timestamps)
+    public long      journalSeq = 0;      // last journal record folded into this state
+    /** Reward rolls — saved with the farm so reloads continue the same sequence. */
+    public final FarmRandom rng = FarmRandom.fresh();
+    public boolean   autoWater  = false;  // Upgrade: auto-water on plant
+    public boolean   goldMagnet = false;  // Upgrade: +50% harvest rewards
+    public String    farmName   = "My Farm";  // Legacy field (kept for save compat)
+    public float     speedMult  = 1.0f;       // Growth speed multiplier (internal, no UI)
+
+    // v6: Crop bank (harvested crops awaiting export)
+    public int[]     cropBank   = new int[CROP_COUNT];  // one slot per crop type
+    // v6: Procedural upgrades
+    public int       soilLevel     = 0;   // +20% growth speed per level (max 5)
+    public int       qualityLevel  = 0;   // +20% harvest reward per level (max 5)
+    public int       luckyLevel    = 0;   // +10% double-harvest chance per level (max 5)
+    // v6: Prestige system
+    public int       prestigeLevel = 0;   // resets farm for permanent bonuses
+    // v6: Lifetime stats
+    public int       totalGoldEarned   = 0;
+    public int       totalCropsExported = 0;
+
+    /**
+     * Save in the binary {@link FarmSaveFormat}, synchronously and atomically.
+     * The game uses {@link SaveService} instead so the write happens off-thread.
+     */
+    public void saveToFile(Path dir) {
+        FarmEvents.Save event = new FarmEvents.Save();
+        event.begin();
+        long probe = Metrics.SAVE_WRITE.begin();
+        try {
+            ByteBuffer buf = FarmSaveFormat.encode(this);
+            int size = buf.remaining();
+            SaveService.writeAtomically(dir.resolve(SAVE_FILE), buf);
+            if (event.shouldCommit()) {
+                event.path  = dir.resolve(SAVE_FILE).toString();
+                event.kind  = "snapshot";
+                event.bytes = size;
+                event.commit();
+            }
+        } catch (Exception e) {
+            System.err.println("[TestCoreMod] Failed to save farm: " + e.getMessage());
+        } finally {
+            Metrics.SAVE_WRITE.end(probe);
+        }
+    }
+
+    /**
+     * Load the binary save, falling back to a legacy {@code farm_save.json}
+     * (migrated to the binary format on the next save). Returns true if a
+     * save was found and loaded.
+     */
+    public boolean loadFromFile(Path dir) {
+        FarmEvents.Load event = new FarmEvents.Load();
+        event.begin();
+        long probe = Metrics.LOAD.begin();
+        try {
+            Path file = dir.resolve(SAVE_FILE);
+            event.path = file.toString();
+            if (Files.exists(file)) {
+                try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                    ByteBuffer buf = ByteBuffer.allocate((int) ch.size());
+                    while (buf.hasRemaining() && ch.read(buf) >= 0) {}
+                    event.bytes = buf.position();
+                    FarmSaveFormat.decode(buf.flip(), this);
+                }
+                event.found = true;
+                return true;
+            }
+            Path legacy = dir.resolve(LEGACY_SAVE_FILE);
+            if (!Files.exists(legacy)) return false;
+            event.path = legacy.toString();
+            event.bytes = Files.size(legacy);
+            loadLegacyJson(Files.readString(legacy));
+            System.out.println("[TestCoreMod] Migrating " + LEGACY_SAVE_FILE + " to " + SAVE_FILE);
+            event.legacy = true;
+            event.found = true;
+            return true;
+        } catch (Exception e) {
+            System.err.println("[TestCoreMod] Failed to load farm: " + e.getMessage());
+            return false;
+        } finally {
+            Metrics.LOAD.end(probe);
+            if (event.shouldCommit()) {
+                event.plots = plots.size();
+                event.commit();
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  LEGACY JSON (read-only, for migrating pre-binary saves)
+    // ═══════════════════════════════════════════════════════════════════
+
+    private void loadLegacyJson(String json) {
+        gold        = readInt(json, "gold", 50);
+        harvests    = readInt(json, "harvests", 0);
+        seasonIndex = readInt(json, "seasonIndex", 0);
+        seasonTicks = readInt(json, "seasonTicks", 0);
+        waterTicks  = readInt(json, "waterTicks", 0);
+        selectedPlot = readInt(json, "selectedPlot", 0);
+        lastClosedTime = readLong(json, "lastClosedTime", 0);
+        autoWater  = readBool(json, "autoWater", false);
+        goldMagnet = readBool(json, "goldMagnet", false);
+        farmName   = readString(json, "farmName", "My Farm");
+        speedMult  = readFloat(json, "speedMult", 1.0f);
+        soilLevel     = readInt(json, "soilLevel", 0);
+        qualityLevel  = readInt(json, "qualityLevel", 0);
+        luckyLevel    = readInt(json, "luckyLevel", 0);
+        prestigeLevel = readInt(json, "prestigeLevel", 0);
+        totalGoldEarned   = readInt(json, "totalGoldEarned", 0);
+        totalCropsExported = readInt(json, "totalCropsExported", 0);
+        readIntArray(json, "cropBank", cropBank, cropBank.length);
+        int n = Math.max(1, Math.min(PlotStore.MAX_PLOTS, readInt(json, "plotCount", DEFAULT_PLOTS)));
+        plots.resize(n);
+        readIntArray(json, "cropType", plots.type, n);
+        readFloatArray(json, "cropGrowth", plots.growth, n);
+        readBoolArray(json, "watered", plots.watered, n);
+        readBoolArray(json, "luckyWater", plots.lucky, n);
+        System.arraycopy(plots.type, 0, plots.lastType, 0, n);  // auto-replant memory
+    }
+
+    // ── Tiny JSON readers (no library needed) ────────────────────
+    private static int readInt(String json, String key, int def) {
+        String pat = "\"" + key + "\": ";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return def;
+        int start = idx + pat.length();
+        int end = start;
+        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) end++;
+        try { return Integer.parseInt(json.substring(start, end)); } catch (Exception e) { return def; }
+    }
+    private static long readLong(String json, String key, long def) {
+        String pat = "\"" + key + "\": ";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return def;
+        int start = idx + pat.length();
+        int end = start;
+        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) end++;
+        try { return Long.parseLong(json.substring(start, end)); } catch (Exception e) { return def; }
+    }
+    private static boolean readBool(String json, String key, boolean def) {
+        String pat = "\"" + key + "\": ";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return def;
+        int start = idx + pat.length();
+        return json.regionMatches(start, "true", 0, 4);
+    }
+    private static String readString(String json, String key, String def) {
+        String pat = "\"" + key + "\": \"";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return def;
+        int start = idx + pat.length();
+        int end = json.indexOf('"', start);
+        if (end < 0) return def;
+        return json.substring(start, end).replace("\\\"", "\"");
+    }
+    private static float readFloat(String json, String key, float def) {
+        String pat = "\"" + key + "\": ";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return def;
+        int start = idx + pat.length();
+        int end = start;
+        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '.' || json.charAt(end) == '-')) end++;
+        try { return Float.parseFloat(json.substring(start, end)); } catch (Exception e) { return def; }
+    }
+    private static void readIntArray(String json, String key, int[] out, int n) {
+        String pat = "\"" + key + "\": [";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return;
+        int start = idx + pat.length();
+        int end = json.indexOf(']', start);
+        if (end < 0) return;
+        String[] parts = json.substring(start, end).split(",");
+        for (int i = 0; i < Math.min(parts.length, n); i++) {
+            try { out[i] = Integer.parseInt(parts[i].trim()); } catch (Exception ignored) {}
+        }
+    }
+    private static void readFloatArray(String json, String key, float[] out, int n) {
+        String pat = "\"" + key + "\": [";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return;
+        int start = idx + pat.length();
+        int end = json.indexOf(']', start);
+        if (end < 0) return;
+        String[] parts = json.substring(start, end).split(",");
+        for (int i = 0; i < Math.min(parts.length, n); i++) {
+            try { out[i] = Float.parseFloat(parts[i].trim()); } catch (Exception ignored) {}
+        }
+    }
+    private static void readBoolArray(String json, String key, boolean[] out, int n) {
+        String pat = "\"" + key + "\": [";
+        int idx = json.indexOf(pat);
+        if (idx < 0) return;
+        int start = idx + pat.length();
+        int end = json.indexOf(']', start);
+        if (end < 0) return;
+        String[] parts = json.substring(start, end).split(",");
+        for (int i = 0; i < Math.min(parts.length, n); i++) {
+            out[i] = "true".equals(parts[i].trim());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.testcoremod.farm;
+
+import com.testcoremod.metrics.Metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.testcoremod.farm.FarmRules.CROP_COUNT;
+
+/**
+ * FarmJournal — append-only log of player actions between snapshots.
+ *
+ * Every change the player makes is recorded as a few bytes (gold delta,
+ * plant, water, harvest, upgrade…) and appended to {@code farm_save.journal}
+ * by the {@link SaveService} writer thread, instead of rewriting the whole
+ * save. The journal is compacted into a full snapshot periodically; the
+ * snapshot stores the last sequence number it covers ({@link FarmData#journalSeq})
+ * and the writer drops older records.
+ *
+ * Records are stamped with the farm tick they happened on. After a crash,
+ * {@link #replay} re-steps the simulation from the snapshot to each record's
+ * tick and re-applies it, so the farm comes back exactly as it was at the
+ * last record. Harvest rewards are recorded and applied as recorded; the
+ * rolls are repeated only to advance {@link FarmData#rng} to where it was.
+ *
+ * While a {@link FarmRecording} is attached, every record is also copied
+ * into it, so a session can be replayed later from its starting snapshot.
+ *
+ * Record layout (little-endian):
+ * <pre>
+ *   byte op, byte payload length, long seq, long tick, payload
+ * </pre>
+ * A torn record at the end of the file (crash mid-append) is ignored.
+ */
+public final class FarmJournal {
+
+    public static final String FILE = "farm_save.journal";
+
+    // ── Opcodes ─────────────────────────────────────────────────────────
+    static final byte OP_CLOCK   = 1;   // long wallMillis — time marker, no state change
+    static final byte OP_GOLD    = 2;   // int delta
+    static final byte OP_PLANT   = 3;   // int plot, byte crop, byte watered
+    static final byte OP_WATER   = 4;   // int plot, byte lucky
+    static final byte OP_GROWTH  = 5;   // int plot, float growth (fertilizer)
+    static final byte OP_HARVEST = 6;   // int plot, int reward
+    static final byte OP_UPGRADE = 7;   // byte kind
+    static final byte OP_EXPORT  = 8;   // int bonusGold
+    static final byte OP_PRESTIGE = 9;  // (none) — FarmRules.prestige
+    static final byte OP_RESIZE  = 10;  // int plots
+    static final byte OP_SEED    = 11;  // long seed — reward RNG reseeded
+
+    // ── Upgrade kinds (OP_UPGRADE) ──────────────────────────────────────
+    public static final byte UPG_AUTO_WATER  = 0;
+    public static final byte UPG_GOLD_MAGNET = 1;
+    public static final byte UPG_SOIL        = 2;
+    public static final byte UPG_QUALITY     = 3;
+    public static final byte UPG_LUCKY       = 4;
+
+    static final int HEADER_BYTES = 1 + 1 + 8 + 8;
+    /** Wall-clock length of a farm tick (20 ticks per second). */
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final FarmData    data;
+    private final SaveService out;
+    private long seq;
+    private long bytesSinceSnapshot;
+    private FarmRecording recording;
+
+    public FarmJournal(FarmData data, SaveService out) {
+        this.data = data;
+        this.out  = out;
+        this.seq  = data.journalSeq;
+    }
+
+    /** Sequence number of the last record written. */
+    public long lastSeq() {
+        return seq;
+    }
+
+    /** Journal bytes written since the last {@link #markSnapshot()}. */
+    public long bytesSinceSnapshot() {
+        return bytesSinceSnapshot;
+    }
+
+    /** A snapshot covering everything up to {@link #lastSeq()} was queued. */
+    public void markSnapshot() {
+        bytesSinceSnapshot = 0;
+    }
+
+    /** Also copy records into {@code r} from now on ({@code null} to stop). */
+    public void record(FarmRecording r) {
+        recording = r;
+    }
+
+    public FarmRecording recording() {
+        return recording;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  RECORDING (game thread, or the scheduler thread stepping the farm)
+    // ═══════════════════════════════════════════════════════════════════
+
+    public void clock(long wallMillis) {
+        append(begin(OP_CLOCK, 8).putLong(wallMillis));
+    }
+
+    public void gold(int delta) {
+        if (delta != 0) append(begin(OP_GOLD, 4).putInt(delta));
+    }
+
+    public void plant(int plot, int crop, boolean watered) {
+        append(begin(OP_PLANT, 6).putInt(plot).put((byte) crop).put((byte) (watered ? 1 : 0)));
+    }
+
+    public void water(int plot, boolean lucky) {
+        append(begin(OP_WATER, 5).putInt(plot).put((byte) (lucky ? 1 : 0)));
+    }
+
+    public void growth(int plot, float growth) {
+        append(begin(OP_GROWTH, 8).putInt(plot).putFloat(growth));
+    }
+
+    public void harvest(int plot, int reward) {
+        append(begin(OP_HARVEST, 8).putInt(plot).putInt(reward));
+    }
+
+    public void upgrade(byte kind) {
+        append(begin(OP_UPGRADE, 1).put(kind));
+    }
+
+    public void export(int bonusGold) {
+        append(begin(OP_EXPORT, 4).putInt(bonusGold));
+    }
+
+    public void prestige() {
+        append(begin(OP_PRESTIGE, 0));
+    }
+
+    public void resize(int plots) {
+        append(begin(OP_RESIZE, 4).putInt(plots));
+    }
+
+    public void seed(long seed) {
+        append(begin(OP_SEED, 8).putLong(seed));
+    }
+
+    private ByteBuffer begin(byte op, int len) {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + len).order(ByteOrder.LITTLE_ENDIAN);
+        return buf.put(op).put((byte) len).putLong(++seq).putLong(data.ticks);
+    }
+
+    private void append(ByteBuffer record) {
+        bytesSinceSnapshot += record.capacity();
+        record.flip();
+        if (recording != null) recording.add(record.duplicate());
+        out.append(record);
+        Metrics.JOURNAL_RECORDS.increment();
+    }
+
+    /** Sequence number of an encoded record. */
+    static long seqOf(ByteBuffer record) {
+        return record.order(ByteOrder.LITTLE_ENDIAN).getLong(record.position() + 2);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  REPLAY (load)
+    // ═══════════════════════════════════════════════════════════════════
+
+    /**
+     * Re-apply the records in {@code buf} newer than {@code data.journalSeq},
+     * stepping {@code sim} to each record's tick first. Returns the number
+     * of records applied.
+     *
+     * {@link FarmData#lastClosedTime} is left at the wall time of the last
+     * record — the last clock marker (or the snapshot) plus the ticks since
+     * it — so the offline catch-up that follows a load doesn't simulate
+     * again the ticks replay already covered.
+     */
+    public static int replay(ByteBuffer buf, FarmData data, FarmSimulation sim) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        int applied = 0;
+        long clockTick = data.ticks;  // tick lastClosedTime refers to
+        while (buf.remaining() >= HEADER_BYTES) {
+            byte op  = buf.get();
+            int  len = buf.get() & 0xFF;
+            long seq  = buf.getLong();
+            long tick = buf.getLong();
+            if (buf.remaining() < len) break;  // torn tail
+            ByteBuffer p = buf.slice(buf.position(), len).order(ByteOrder.LITTLE_ENDIAN);
+            buf.position(buf.position() + len);
+            if (seq <= data.journalSeq) continue;  // already in the snapshot
+
+            while (data.ticks < tick) {
+                sim.step((int) Math.min(tick - data.ticks, Integer.MAX_VALUE));
+            }
+            apply(op, p, data, sim);
+            if (op == OP_CLOCK) clockTick = tick;
+            data.journalSeq = seq;
+            applied++;
+        }
+        if (applied > 0 && data.lastClosedTime > 0) {
+            data.lastClosedTime += (data.ticks - clockTick) * MILLIS_PER_TICK;
+        }
+        return applied;
+    }
+
+    private static void apply(byte op, ByteBuffer p, FarmData data, FarmSimulation sim) {
+        PlotStore plots = data.plots;
+        switch (op) {
+            case OP_CLOCK -> data.lastClosedTime = p.getLong();
+            case OP_GOLD  -> data.gold += p.getInt();
+            case OP_PLANT -> {
+                int i = p.getInt();
+                if (i >= plots.size()) return;
+                plots.type[i]     = p.get();
+                plots.lastType[i] = plots.type[i];
+                plots.growth[i]   = 0f;
+                plots.watered[i]  = p.get() != 0;
+                plots.lucky[i]    = false;
+                sim.replan(i);
+            }
+            case OP_WATER -> {
+                int i = p.getInt();
+                if (i >= plots.size()) return;
+                sim.sync(i);
+                plots.watered[i] = true;
+                plots.lucky[i]   = p.get() != 0;
+                sim.replan(i);
+            }
+            case OP_GROWTH -> {
+                int i = p.getInt();
+                if (i >= plots.size()) return;
+                plots.growth[i] = p.getFloat();
+                sim.replan(i);
+            }
+            case OP_HARVEST -> {
+                int i = p.getInt();
+                int reward = p.getInt();
+                if (i >= plots.size()) return;
+                int type = plots.type[i];
+                if (type >= 0 && type < CROP_COUNT) {
+                    FarmRules.rollReward(data, type, data.rng);  // same draws as the live harvest
+                    FarmRules.rollLucky(data, data.rng);
+                    data.cropBank[type]++;
+                }
+                data.harvests++;
+                data.totalGoldEarned += reward;
+                plots.clear(i);
+                sim.replan(i);
+            }
+            case OP_UPGRADE -> {
+                switch (p.get()) {
+                    case UPG_AUTO_WATER  -> data.autoWater = true;
+                    case UPG_GOLD_MAGNET -> data.goldMagnet = true;
+                    case UPG_SOIL        -> data.soilLevel++;
+                    case UPG_QUALITY     -> data.qualityLevel++;
+                    case UPG_LUCKY       -> data.luckyLevel++;
+                    default -> { }
+                }
+            }
+            case OP_EXPORT -> {
+                for (int c = 0; c < CROP_COUNT; c++) {
+                    data.totalCropsExported += data.cropBank[c];
+                    data.cropBank[c] = 0;
+                }
+                data.totalGoldEarned += p.getInt();
+            }
+            case OP_PRESTIGE -> FarmRules.prestige(data, sim);
+            case OP_RESIZE -> {
+                int n = p.getInt();
+                if (n < 1 || n > PlotStore.MAX_PLOTS) return;
+                plots.resize(n);  // the simulation re-tracks on its next step, as live
+                data.selectedPlot = Math.min(data.selectedPlot, n - 1);
+            }
+            case OP_SEED -> data.rng.reseed(p.getLong());
+            default -> { }  // unknown op from a newer writer — skip
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.testcoremod.farm;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * FarmRandom — the farm's own seedable, splittable random stream.
+ *
+ * SplitMix64 (the algorithm behind {@link java.util.SplittableRandom}),
+ * but with its state exposed so it can be saved with the farm: a farm
+ * reloaded from disk continues the exact sequence it left off at, and two
+ * runs from the same save and inputs roll the same rewards. {@link #split()}
+ * derives an independent stream (e.g. one per farm) without sharing state.
+ *
+ * Not thread-safe — each farm owns one and uses it on the thread that
+ * steps it.
+ */
+public final class FarmRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+    private long gamma;   // odd increment; GOLDEN_GAMMA unless split
+
+    public FarmRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private FarmRandom(long state, long gamma) {
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /** A stream seeded from the clock, for new farms. */
+    public static FarmRandom fresh() {
+        return new FarmRandom(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    /** A new, statistically independent stream; advances this one. */
+    public FarmRandom split() {
+        return new FarmRandom(nextLong(), mixGamma(nextLong()));
+    }
+
+    // ── Persistence ─────────────────────────────────────────────────────
+
+    public long state() {
+        return state;
+    }
+
+    public long gamma() {
+        return gamma;
+    }
+
+    /** Restore a saved stream; an even (corrupt) gamma falls back to the default. */
+    public void restore(long state, long gamma) {
+        this.state = state;
+        this.gamma = (gamma & 1L) != 0 ? gamma : GOLDEN_GAMMA;
+    }
+
+    /** Restart the stream from {@code seed}. */
+    public void reseed(long seed) {
+        restore(seed, GOLDEN_GAMMA);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,146 @@
+package com.testcoremod.farm;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * FarmRecording — a replayable session: start snapshot, input log, end state.
+ *
+ * While attached to a {@link FarmJournal}, every journal record (the
+ * player's inputs, tick-stamped) is copied in. {@link #finish} adds the
+ * farm's final state. {@link #replay} then rebuilds the run headless — the
+ * start snapshot, {@link FarmJournal#replay} of the inputs, stepping to the
+ * end tick — and compares the result byte for byte with the recorded end
+ * state. The farm's RNG is part of the snapshot and the simulation doesn't
+ * depend on how often the UI syncs, so a replay on any build should match
+ * exactly; the time it takes is a reproducible simulation benchmark.
+ *
+ * File layout (little-endian):
+ * <pre>
+ *   int MAGIC ("VFRP"), short VERSION, short reserved
+ *   int length, start snapshot ({@link FarmSaveFormat})
+ *   long end tick
+ *   int length, end snapshot
+ *   int length, journal records
+ * </pre>
+ */
+public final class FarmRecording {
+
+    public static final String FILE    = "farm_replay.dat";
+    public static final int    MAGIC   = 0x50524656;  // "VFRP" little-endian
+    public static final short  VERSION = 1;
+
+    private final ByteBuffer start;
+    private ByteBuffer records = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+    private int recordCount;
+
+    /** Start recording from {@code data}'s current (synced) state. */
+    public FarmRecording(FarmData data) {
+        this.start = FarmSaveFormat.encode(data);
+    }
+
+    /** Inputs recorded so far. */
+    public int recordCount() {
+        return recordCount;
+    }
+
+    void add(ByteBuffer record) {
+        if (records.remaining() < record.remaining()) {
+            int cap = Math.max(records.capacity() * 2, records.position() + record.remaining());
+            records = ByteBuffer.allocate(cap).order(ByteOrder.LITTLE_ENDIAN).put(records.flip());
+        }
+        records.put(record);
+        recordCount++;
+    }
+
+    /** Close the recording at {@code data}'s current (synced) state; returns the file bytes. */
+    public ByteBuffer finish(FarmData data) {
+        ByteBuffer end = FarmSaveFormat.encode(data);
+        ByteBuffer log = records.duplicate().flip();
+        ByteBuffer buf = ByteBuffer.allocate(8 + 4 + start.remaining() + 8 + 4 + end.remaining() + 4 + log.remaining())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        buf.putInt(start.remaining()).put(start.duplicate());
+        buf.putLong(data.ticks);
+        buf.putInt(end.remaining()).put(end);
+        buf.putInt(log.remaining()).put(log);
+        return buf.flip();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  REPLAY
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Outcome of {@link #replay}. */
+    public static final class Result {
+        public final int     inputs;
+        public final long    ticks;
+        public final long    nanos;
+        /** Byte offset of the first difference from the recorded end state; -1 if identical. */
+        public final int     firstDifference;
+
+        Result(int inputs, long ticks, long nanos, int firstDifference) {
+            this.inputs          = inputs;
+            this.ticks           = ticks;
+            this.nanos           = nanos;
+            this.firstDifference = firstDifference;
+        }
+
+        public boolean identical() {
+            return firstDifference < 0;
+        }
+    }
+
+    /**
+     * Re-run a recording headless and compare with its recorded end state.
+     *
+     * @throws IllegalArgumentException if {@code file} is not a recording
+     */
+    public static Result replay(ByteBuffer file) {
+        file.order(ByteOrder.LITTLE_ENDIAN);
+        if (file.remaining() < 8 || file.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a farm recording");
+        }
+        short version = file.getShort();
+        if (version > VERSION) {
+            throw new IllegalArgumentException("Recording version " + version + " is newer than " + VERSION);
+        }
+        file.getShort();
+        ByteBuffer start = section(file);
+        long endTick = file.getLong();
+        ByteBuffer expected = section(file);
+        ByteBuffer log = section(file);
+
+        long t0 = System.nanoTime();
+        FarmData data = new FarmData();
+        FarmSaveFormat.decode(start, data);
+        long startTick = data.ticks;
+        FarmSimulation sim = new FarmSimulation(data);
+        int inputs = FarmJournal.replay(log, data, sim);
+        if (data.ticks < endTick) sim.step((int) (endTick - data.ticks));
+        sim.syncAll();
+        long nanos = System.nanoTime() - t0;
+
+        // Not driven by inputs: the selection, the last wall-clock save time
+        // and the journal bookkeeping
+        FarmData ref = new FarmData();
+        FarmSaveFormat.decode(expected.duplicate(), ref);
+        data.selectedPlot   = ref.selectedPlot;
+        data.lastClosedTime = ref.lastClosedTime;
+        data.journalSeq     = ref.journalSeq;
+        return new Result(inputs, endTick - startTick, nanos, mismatch(FarmSaveFormat.encode(data), expected));
+    }
+
+    private static ByteBuffer section(ByteBuffer file) {
+        int len = file.getInt();
+        if (len < 0 || len > file.remaining()) throw new IllegalArgumentException("Truncated recording");
+        ByteBuffer s = file.slice(file.position(), len).order(ByteOrder.LITTLE_ENDIAN);
+        file.position(file.position() + len);
+        return s;
+    }
+
+    private static int mismatch(ByteBuffer a, ByteBuffer b) {
+        int at = a.mismatch(b);
+        return at < 0 ? -1 : a.position() + at;
+    }
+}
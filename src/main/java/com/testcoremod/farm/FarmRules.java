@@ -0,0 +1,131 @@
+package com.testcoremod.farm;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * FarmRules — the game-balance constants shared by the simulation and the UI.
+ *
+ * Kept free of Minecraft and PocketUICore types so the headless
+ * {@link FarmSimulation} can run on a plain JVM.
+ */
+public final class FarmRules {
+
+    private FarmRules() {}
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  CROPS — varied economics for strategic choice
+    // ═══════════════════════════════════════════════════════════════════
+    public static final int      CROP_COUNT  = 6;
+    public static final String[] CROP_NAMES  = {"Wheat", "Carrot", "Potato", "Beetroot", "Melon", "Pumpkin"};
+    public static final float[]  GROW_SPEEDS = {0.10f, 0.08f, 0.07f, 0.05f, 0.04f, 0.03f};
+    public static final int[]    CROP_COSTS  = {3, 4, 4, 6, 8, 10};
+    public static final int[]    REWARD_MIN  = {6, 8, 8, 12, 16, 20};
+    public static final int[]    REWARD_MAX  = {14, 16, 18, 22, 28, 35};
+
+    /** Growth per tick = speed × multipliers × this scale (0.02 → 50 ticks at speed 1.0). */
+    public static final float GROWTH_SCALE = 0.02f;
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  SEASONS — per-season duration (20 ticks = 1 second) and growth
+    // ═══════════════════════════════════════════════════════════════════
+    public static final String[] SEASON_NAMES  = {"Spring", "Summer", "Autumn", "Winter"};
+    //   Spring=40s  Summer=40s  Autumn=30s  Winter=20s (kept short by request)
+    public static final int[]    SEASON_TICKS  = {800, 800, 600, 400};
+    //   Summer +50%, Winter -70%
+    public static final float[]  SEASON_GROWTH = {1.0f, 1.5f, 1.0f, 0.3f};
+    public static final int      SEASON_COUNT  = 4;
+
+    /** Length of one full Spring→Winter cycle in ticks. */
+    public static final int    CYCLE_TICKS;
+    /** Season-weighted growth ticks in one full cycle (Σ SEASON_TICKS × SEASON_GROWTH). */
+    public static final double CYCLE_GROWTH;
+
+    static {
+        int ticks = 0;
+        double growth = 0;
+        for (int s = 0; s < SEASON_COUNT; s++) {
+            ticks  += SEASON_TICKS[s];
+            growth += (double) SEASON_TICKS[s] * SEASON_GROWTH[s];
+        }
+        CYCLE_TICKS  = ticks;
+        CYCLE_GROWTH = growth;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  WATER & SOIL
+    // ═══════════════════════════════════════════════════════════════════
+    public static final float WATER_MULT       = 2.0f;   // normal water
+    public static final float LUCKY_WATER_MULT = 3.0f;   // Lucky Water consumable
+    public static final int   EVAPORATE_TICKS  = 200;    // water dries every 10s
+    public static final float SOIL_BONUS       = 0.2f;   // +20% growth per Soil level
+
+    /** Water multiplier for a plot in the given watered/lucky state. */
+    public static float waterMult(boolean watered, boolean lucky) {
+        return watered ? (lucky ? LUCKY_WATER_MULT : WATER_MULT) : 1.0f;
+    }
+
+    /** Soil Quality multiplier at the given upgrade level. */
+    public static float soilMult(int soilLevel) {
+        return 1.0f + SOIL_BONUS * soilLevel;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  HARVEST — reward roll (shared by the screen and benchmarks)
+    // ═══════════════════════════════════════════════════════════════════
+    public static final float QUALITY_BONUS      = 0.2f;    // +20% per Crop Quality level
+    public static final float PRESTIGE_BONUS     = 0.15f;   // +15% per prestige level
+    public static final float LUCKY_CHANCE       = 0.10f;   // +10% double-harvest chance per level
+
+    /**
+     * Roll the gold for harvesting one {@code crop} on {@code data}'s farm:
+     * base range, then Gold Magnet, Crop Quality and Prestige bonuses. The
+     * Lucky Harvest double is rolled separately by {@link #rollLucky}.
+     */
+    public static int rollReward(FarmData data, int crop, RandomGenerator rng) {
+        int reward = REWARD_MIN[crop] + rng.nextInt(REWARD_MAX[crop] - REWARD_MIN[crop] + 1);
+        if (data.goldMagnet) reward = reward + reward / 2;                      // Gold Magnet: +50%
+        reward = (int) (reward * (1.0f + QUALITY_BONUS * data.qualityLevel));    // v6: Crop Quality bonus
+        reward = (int) (reward * (1.0f + PRESTIGE_BONUS * data.prestigeLevel));  // v6: Prestige bonus
+        return reward;
+    }
+
+    /** Roll the Lucky Harvest upgrade: true means this harvest pays 2×. */
+    public static boolean rollLucky(FarmData data, RandomGenerator rng) {
+        return data.luckyLevel > 0 && rng.nextFloat() < data.luckyLevel * LUCKY_CHANCE;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  PRESTIGE — shared by the screen and journal replay
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Starting gold after prestiging to {@code level}. */
+    public static int prestigeStartGold(int level) {
+        return 50 + 25 * level;
+    }
+
+    /**
+     * Prestige {@code data}'s farm: clear the plots, crop bank, upgrades and
+     * season, start over with {@link #prestigeStartGold} — lifetime stats
+     * and the prestige level carry over. Returns the new level.
+     */
+    public static int prestige(FarmData data, FarmSimulation sim) {
+        int level = data.prestigeLevel + 1;
+        data.plots.clearAll();
+        sim.rebuild();
+        Arrays.fill(data.cropBank, 0);
+        data.gold = prestigeStartGold(level);
+        data.harvests = 0;
+        data.seasonIndex = 0;
+        data.seasonTicks = 0;
+        data.waterTicks = 0;
+        data.autoWater = false;
+        data.goldMagnet = false;
+        data.soilLevel = 0;
+        data.qualityLevel = 0;
+        data.luckyLevel = 0;
+        data.speedMult = 1.0f;
+        data.prestigeLevel = level;
+        return level;
+    }
+}
@@ -0,0 +1,235 @@
+package com.testcoremod.farm;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static com.testcoremod.farm.FarmRules.CROP_COUNT;
+
+/**
+ * FarmSaveFormat — compact, versioned binary encoding of {@link FarmData}.
+ *
+ * Layout (little-endian):
+ * <pre>
+ *   int    MAGIC ("VFRM")
+ *   short  VERSION
+ *   short  section count
+ *   then per section:  int tag, int length, length bytes of payload
+ * </pre>
+ * Sections:
+ * <ul>
+ *   <li>{@code HEAD} — scalar fields (gold, clocks, upgrades, lifetime stats,
+ *       RNG state)</li>
+ *   <li>{@code NAME} — farm name, UTF-8</li>
+ *   <li>{@code BANK} — crop bank counts</li>
+ *   <li>{@code PLOT} — plot count, then growth (float[n]), crop type
+ *       (byte[n]) and water flags (byte[n]) written as bulk arrays</li>
+ * </ul>
+ * Readers skip unknown sections by length, and read fields appended to a
+ * section in a later version only if the payload is long enough — old
+ * files load with defaults, new sections don't break old readers.
+ * Encoding and decoding are a single pass over flat arrays, so cost and
+ * size grow linearly (~6 bytes per plot) with no per-key rescans.
+ */
+public final class FarmSaveFormat {
+
+    private FarmSaveFormat() {}
+
+    public static final int   MAGIC   = 0x4D524656;  // "VFRM" little-endian
+    public static final short VERSION = 1;
+
+    static final int TAG_HEAD = 0x44414548;  // "HEAD"
+    static final int TAG_NAME = 0x454D414E;  // "NAME"
+    static final int TAG_BANK = 0x4B4E4142;  // "BANK"
+    static final int TAG_PLOT = 0x544F4C50;  // "PLOT"
+
+    private static final int HEADER_BYTES  = 8;
+    private static final int SECTION_BYTES = 8;
+    private static final int HEAD_BYTES    = 13 * 4 + 5 * 8 + 2;
+
+    private static final byte FLAG_WATERED = 1;
+    private static final byte FLAG_LUCKY   = 2;
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  ENCODE
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Bytes {@link #encode} will produce for {@code data}. */
+    public static int encodedSize(FarmData data) {
+        int n = data.plots.size();
+        return HEADER_BYTES
+                + SECTION_BYTES + HEAD_BYTES
+                + SECTION_BYTES + data.farmName.getBytes(StandardCharsets.UTF_8).length
+                + SECTION_BYTES + 4 * CROP_COUNT
+                + SECTION_BYTES + 4 + n * (4 + 1 + 1);
+    }
+
+    /** Encode {@code data} into a new buffer, flipped and ready to write. */
+    public static ByteBuffer encode(FarmData data) {
+        ByteBuffer buf = ByteBuffer.allocate(encodedSize(data)).order(ByteOrder.LITTLE_ENDIAN);
+        encode(data, buf);
+        return buf.flip();
+    }
+
+    /** Encode {@code data} into {@code buf}, which needs at least {@link #encodedSize} bytes free. */
+    public static void encode(FarmData data, ByteBuffer buf) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC);
+        buf.putShort(VERSION);
+        buf.putShort((short) 4);
+
+        // ── HEAD ──
+        int start = beginSection(buf, TAG_HEAD);
+        buf.putInt(data.gold);
+        buf.putInt(data.harvests);
+        buf.putInt(data.seasonIndex);
+        buf.putInt(data.seasonTicks);
+        buf.putInt(data.waterTicks);
+        buf.putInt(data.selectedPlot);
+        buf.putLong(data.lastClosedTime);
+        buf.put((byte) (data.autoWater ? 1 : 0));
+        buf.put((byte) (data.goldMagnet ? 1 : 0));
+        buf.putFloat(data.speedMult);
+        buf.putInt(data.soilLevel);
+        buf.putInt(data.qualityLevel);
+        buf.putInt(data.luckyLevel);
+        buf.putInt(data.prestigeLevel);
+        buf.putInt(data.totalGoldEarned);
+        buf.putInt(data.totalCropsExported);
+        buf.putLong(data.ticks);
+        buf.putLong(data.journalSeq);
+        buf.putLong(data.rng.state());
+        buf.putLong(data.rng.gamma());
+        endSection(buf, start);
+
+        // ── NAME ──
+        start = beginSection(buf, TAG_NAME);
+        buf.put(data.farmName.getBytes(StandardCharsets.UTF_8));
+        endSection(buf, start);
+
+        // ── BANK ──
+        start = beginSection(buf, TAG_BANK);
+        buf.asIntBuffer().put(data.cropBank, 0, CROP_COUNT);
+        buf.position(buf.position() + 4 * CROP_COUNT);
+        endSection(buf, start);
+
+        // ── PLOT ──
+        PlotStore plots = data.plots;
+        int n = plots.size();
+        start = beginSection(buf, TAG_PLOT);
+        buf.putInt(n);
+        buf.asFloatBuffer().put(plots.growth, 0, n);
+        buf.position(buf.position() + 4 * n);
+        int[] type = plots.type;
+        for (int i = 0; i < n; i++) buf.put((byte) type[i]);
+        boolean[] watered = plots.watered, lucky = plots.lucky;
+        for (int i = 0; i < n; i++) {
+            buf.put((byte) ((watered[i] ? FLAG_WATERED : 0) | (lucky[i] ? FLAG_LUCKY : 0)));
+        }
+        endSection(buf, start);
+    }
+
+    /** Write a section header with a placeholder length; returns the payload start. */
+    private static int beginSection(ByteBuffer buf, int tag) {
+        buf.putInt(tag);
+        buf.putInt(0);
+        return buf.position();
+    }
+
+    private static void endSection(ByteBuffer buf, int payloadStart) {
+        buf.putInt(payloadStart - 4, buf.position() - payloadStart);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  DECODE
+    // ═══════════════════════════════════════════════════════════════════
+
+    /**
+     * Decode {@code buf} into {@code data}. Fields missing from the file keep
+     * their current values.
+     *
+     * @throws IllegalArgumentException if the buffer is not a farm save, is
+     *         from a newer major version, or is truncated
+     */
+    public static void decode(ByteBuffer buf, FarmData data) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.remaining() < HEADER_BYTES || buf.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a farm save");
+        }
+        short version = buf.getShort();
+        if (version > VERSION) {
+            throw new IllegalArgumentException("Save version " + version + " is newer than " + VERSION);
+        }
+        int sections = buf.getShort() & 0xFFFF;
+        for (int s = 0; s < sections; s++) {
+            if (buf.remaining() < SECTION_BYTES) throw new IllegalArgumentException("Truncated save");
+            int tag = buf.getInt();
+            int len = buf.getInt();
+            if (len < 0 || len > buf.remaining()) throw new IllegalArgumentException("Truncated save");
+            ByteBuffer payload = buf.slice(buf.position(), len).order(ByteOrder.LITTLE_ENDIAN);
+            buf.position(buf.position() + len);
+            switch (tag) {
+                case TAG_HEAD -> readHead(payload, data);
+                case TAG_NAME -> data.farmName = StandardCharsets.UTF_8.decode(payload).toString();
+                case TAG_BANK -> readBank(payload, data);
+                case TAG_PLOT -> readPlots(payload, data);
+                default -> { }  // unknown section (newer writer) — skip
+            }
+        }
+    }
+
+    private static void readHead(ByteBuffer p, FarmData data) {
+        data.gold         = p.getInt();
+        data.harvests     = p.getInt();
+        data.seasonIndex  = Math.floorMod(p.getInt(), FarmRules.SEASON_COUNT);
+        data.seasonTicks  = p.getInt();
+        data.waterTicks   = p.getInt();
+        data.selectedPlot = p.getInt();
+        data.lastClosedTime = p.getLong();
+        data.autoWater    = p.get() != 0;
+        data.goldMagnet   = p.get() != 0;
+        data.speedMult    = p.getFloat();
+        data.soilLevel    = p.getInt();
+        data.qualityLevel = p.getInt();
+        data.luckyLevel   = p.getInt();
+        data.prestigeLevel = p.getInt();
+        data.totalGoldEarned    = p.getInt();
+        data.totalCropsExported = p.getInt();
+        // Fields appended after the first release — absent in older files
+        if (p.remaining() >= 16) {
+            data.ticks      = p.getLong();
+            data.journalSeq = p.getLong();
+        }
+        if (p.remaining() >= 16) {
+            data.rng.restore(p.getLong(), p.getLong());
+        }
+    }
+
+    private static void readBank(ByteBuffer p, FarmData data) {
+        int count = Math.min(CROP_COUNT, p.remaining() / 4);
+        p.asIntBuffer().get(data.cropBank, 0, count);
+    }
+
+    private static void readPlots(ByteBuffer p, FarmData data) {
+        int n = p.getInt();
+        if (n < 1 || n > PlotStore.MAX_PLOTS || p.remaining() < n * 6) {
+            throw new IllegalArgumentException("Bad plot section (" + n + " plots)");
+        }
+        PlotStore plots = data.plots;
+        plots.resize(n);
+        p.asFloatBuffer().get(plots.growth, 0, n);
+        p.position(p.position() + 4 * n);
+        int[] type = plots.type;
+        for (int i = 0; i < n; i++) {
+            int t = p.get();
+            type[i] = (t >= 0 && t < CROP_COUNT) ? t : -1;
+        }
+        boolean[] watered = plots.watered, lucky = plots.lucky;
+        for (int i = 0; i < n; i++) {
+            byte f = p.get();
+            watered[i] = (f & FLAG_WATERED) != 0;
+            lucky[i]   = (f & FLAG_LUCKY) != 0;
+        }
+        System.arraycopy(type, 0, plots.lastType, 0, n);  // auto-replant memory
+    }
+}
@@ -0,0 +1,381 @@
+package com.testcoremod.farm;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * FarmScheduler — hosts every loaded {@link Farm} and steps them in parallel.
+ *
+ * {@link #tick} is called once per client tick. A farm's tick only touches
+ * that farm, so the farms are split across a ForkJoin pool with no locks;
+ * the calling (game) thread collects each farm's notice once the step is
+ * done — the only point where results cross back.
+ *
+ * The step is time-budgeted ({@link #setBudgetMicros}): workers stop
+ * stepping at the deadline, and the game thread waits no longer than
+ * that. Whatever is left stays owed to each farm; a step that overruns
+ * (a big farm's evaporation or snapshot can't be split) keeps going in
+ * the background and is collected on a later tick, while new ticks pile
+ * up and are handed out once it is collected — each to every farm except
+ * the one the screen drove on that tick. A farm that falls more than {@code Farm.CATCH_UP_TICKS}
+ * behind is caught up in closed form rather than tick by tick. Call
+ * {@link #settle} before touching a farm from the game thread.
+ *
+ * All farms share one save writer thread. The default farm keeps the
+ * single-farm location ({@code <root>/farm_save.dat}); named farms live in
+ * {@code <root>/virtualfarm_farms/<id>/}.
+ *
+ * Game thread only, apart from the pool's own workers inside {@link #tick}.
+ */
+public final class FarmScheduler {
+
+    public static final String DEFAULT_FARM = "My Farm";
+    public static final String FARMS_DIR    = "virtualfarm_farms";
+    public static final int    MAX_FARMS    = 64;
+    private static final int   MAX_ID_CHARS = 32;
+    /** Farms stepped by one task. A farm tick is microseconds; smaller tasks are all overhead. */
+    private static final int   LEAF_FARMS   = 4;
+    /** Default per-tick budget; {@code -Dvirtualfarm.tickBudgetUs=…}, 0 = unlimited. */
+    public static final int    DEFAULT_BUDGET_US = Integer.getInteger("virtualfarm.tickBudgetUs", 500);
+
+    private final Path root;
+    private final ExecutorService writer = SaveService.newWriter();
+    private final ForkJoinPool pool;
+    private final LinkedHashMap<String, Farm> farms = new LinkedHashMap<>();
+    /** {@link #farms} as an array for the step; rebuilt when a farm is added or removed. */
+    private Farm[] stepping = new Farm[0];
+
+    // ── Budgeted stepping (game thread) ──────────────────────────────
+    private long budgetNanos = DEFAULT_BUDGET_US * 1000L;
+    private int  elapsed;              // client ticks not yet added to the farms' owed
+    private CompletableFuture<Void> inFlight;  // step still running after its tick, or null
+    private Farm[] inFlightFarms;
+    private int  rotation;             // first farm of the next step, for fairness
+    private long overruns;
+    // Notices collected this tick, merged into one message
+    private String firstNotice;
+    private int    otherNotices;
+    /** Told about each farm unloaded after its tick threw; see {@link #onFault}. */
+    private Consumer<Farm> faultHandler = farm ->
+            System.err.println("[TestCoreMod] Farm '" + farm.data.farmName + "' stopped after an error: " + farm.fault);
+
+    public FarmScheduler(Path root) {
+        this.root = root;
+        int parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("VirtualFarm-Sim-" + t.getPoolIndex());
+            return t;
+        }, null, false);
+    }
+
+    /** Directory-safe key for a farm name ("My Farm" → "my_farm"). */
+    public static String idOf(String name) {
+        String id = name.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_-]+", "_");
+        if (id.isEmpty()) id = "_";
+        return id.length() > MAX_ID_CHARS ? id.substring(0, MAX_ID_CHARS) : id;
+    }
+
+    private Path dirOf(String id) {
+        return id.equals(idOf(DEFAULT_FARM)) ? root : root.resolve(FARMS_DIR).resolve(id);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  FARMS
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Loaded farms, in load order. */
+    public Collection<Farm> farms() {
+        return Collections.unmodifiableCollection(farms.values());
+    }
+
+    /** The loaded farm called {@code name}, or null. */
+    public Farm get(String name) {
+        return farms.get(idOf(name));
+    }
+
+    /**
+     * The farm called {@code name}, loading it from disk or creating it.
+     *
+     * @throws IllegalStateException if {@link #MAX_FARMS} farms are already loaded
+     */
+    public Farm open(String name) {
+        settle();
+        String id = idOf(name);
+        Farm farm = farms.get(id);
+        if (farm != null) return farm;
+        if (farms.size() >= MAX_FARMS) {
+            throw new IllegalStateException("Too many farms (max " + MAX_FARMS + ")");
+        }
+        Path dir = dirOf(id);
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            System.err.println("[TestCoreMod] Failed to create farm directory " + dir + ": " + e.getMessage());
+        }
+        farm = Farm.load(id, name, dir, writer);
+        farms.put(id, farm);
+        stepping = farms.values().toArray(new Farm[0]);
+        return farm;
+    }
+
+    /** Load the default farm plus every named farm saved under the root. */
+    public void openAll() {
+        open(DEFAULT_FARM);
+        Path dir = root.resolve(FARMS_DIR);
+        if (!Files.isDirectory(dir)) return;
+        ArrayList<String> saved = new ArrayList<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(dir)) {
+            for (Path d : dirs) {
+                if (Files.exists(d.resolve(FarmData.SAVE_FILE))) saved.add(d.getFileName().toString());
+            }
+        } catch (IOException e) {
+            System.err.println("[TestCoreMod] Failed to list farms: " + e.getMessage());
+        }
+        Collections.sort(saved);
+        for (String id : saved) {
+            if (farms.size() >= MAX_FARMS) {
+                System.err.println("[TestCoreMod] More than " + MAX_FARMS + " farms saved; not loading the rest.");
+                break;
+            }
+            open(id);
+        }
+    }
+
+    /** Unload the farm called {@code name} (if loaded) and delete its save. */
+    public void delete(String name) {
+        settle();
+        String id = idOf(name);
+        Farm farm = farms.remove(id);
+        stepping = farms.values().toArray(new Farm[0]);
+        Path dir = dirOf(id);
+        SaveService saves = farm != null ? farm.saves : new SaveService(dir.resolve(FarmData.SAVE_FILE), writer);
+        saves.delete(dir.resolve(FarmData.LEGACY_SAVE_FILE));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  TICK
+    // ═══════════════════════════════════════════════════════════════════
+
+    /**
+     * Advance every farm except {@code skip} (the one the open screen drives
+     * itself) by this client tick, within the budget. Returns the maturity
+     * notification to show, or null.
+     */
+    public String tick(Farm skip) {
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        elapsed++;
+        if (skip != null) skip.shownTicks++;  // workers never touch this field
+        if (inFlight != null) {
+            if (!await(inFlight, deadline)) {
+                overruns++;
+                return null;  // still busy: this tick waits for the next step
+            }
+            collect();
+        }
+        handOut();
+
+        Farm[] all = stepping;
+        if (all.length > 0) {
+            int start = rotation++ % all.length;
+            // Through a future, not pool.submit(): an outside thread waiting on a
+            // ForkJoinTask may run it itself, which would put the work back here
+            CompletableFuture<Void> step = CompletableFuture.runAsync(
+                    new Step(all, start, 0, all.length, skip, deadline)::invoke, pool);
+            inFlight      = step;
+            inFlightFarms = all;
+            if (await(step, deadline)) collect();
+        }
+
+        String notice = firstNotice;
+        if (otherNotices > 0) notice += " (+" + otherNotices + " more farm" + (otherNotices == 1 ? ")" : "s)");
+        firstNotice  = null;
+        otherNotices = 0;
+        return notice;
+    }
+
+    /** Wait for any step still running, so the game thread can touch farms safely. */
+    public void settle() {
+        if (inFlight != null) {
+            inFlight.join();
+            collect();
+        }
+        handOut();
+    }
+
+    /**
+     * Add the ticks counted since the last step to each farm's owed, less
+     * the ticks the screen drove that farm itself. Game thread, no step in
+     * flight — so a farm shown or hidden mid-overrun is owed exactly the
+     * ticks it wasn't simulated for.
+     */
+    private void handOut() {
+        if (elapsed == 0) return;
+        for (Farm farm : stepping) {
+            farm.owed += elapsed - farm.shownTicks;
+            farm.shownTicks = 0;
+        }
+        elapsed = 0;
+    }
+
+    /**
+     * {@link #settle()}, then simulate whatever {@code farm} is still owed —
+     * before the screen takes over stepping it.
+     */
+    public void settle(Farm farm) {
+        settle();
+        if (farm.fault == null && farm.owed > 0) farm.advance(Long.MAX_VALUE);
+    }
+
+    private static boolean await(CompletableFuture<Void> step, long deadline) {
+        if (deadline == Long.MAX_VALUE) {
+            step.join();
+            return true;
+        }
+        long wait = deadline - System.nanoTime();
+        if (wait > 0 && !step.isDone()) {
+            try {
+                step.get(wait, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+                // farm faults are caught per farm; nothing else throws
+            }
+        }
+        return step.isDone();
+    }
+
+    /** Merge a finished step back on the game thread: notices and faults. */
+    private void collect() {
+        Farm[] all = inFlightFarms;
+        inFlight      = null;
+        inFlightFarms = null;
+        boolean several = all.length > 1;
+        for (Farm farm : all) {
+            if (farm.fault != null) {
+                if (farms.get(farm.id) == farm) unload(farm);
+                continue;
+            }
+            String notice = farm.takeNotice();
+            if (notice == null) continue;
+            if (firstNotice == null) {
+                firstNotice = several ? "[" + farm.data.farmName + "] " + notice : notice;
+            } else {
+                otherNotices++;
+            }
+        }
+    }
+
+    /** Drop a farm whose tick threw; the rest keep running. Its last snapshot stays on disk. */
+    private void unload(Farm farm) {
+        farms.remove(farm.id);
+        stepping = farms.values().toArray(new Farm[0]);
+        faultHandler.accept(farm);
+    }
+
+    /**
+     * Report farms unloaded after an error to {@code handler} (game thread,
+     * once the farm is out of the scheduler) instead of stderr — the client
+     * logs them and stops showing the farm. {@link Farm#fault()} is the cause.
+     */
+    public void onFault(Consumer<Farm> handler) {
+        faultHandler = handler;
+    }
+
+    /**
+     * Steps {@code farms[(start + k) % n]} for k in {@code [lo, hi)},
+     * splitting until {@link #LEAF_FARMS} remain. The rotating start keeps
+     * the same farms from always being first to the budget.
+     */
+    @SuppressWarnings("serial")  // RecursiveAction is Serializable; a Step is never serialized
+    private static final class Step extends RecursiveAction {
+        private final Farm[] farms;
+        private final int    start, lo, hi;
+        private final Farm   skip;
+        private final long   deadline;
+
+        Step(Farm[] farms, int start, int lo, int hi, Farm skip, long deadline) {
+            this.farms    = farms;
+            this.start    = start;
+            this.lo       = lo;
+            this.hi       = hi;
+            this.skip     = skip;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= LEAF_FARMS) {
+                for (int k = lo; k < hi; k++) {
+                    Farm farm = farms[(start + k) % farms.length];
+                    if (farm == skip || farm.fault != null || farm.owed == 0) continue;
+                    try {
+                        farm.advance(deadline);
+                    } catch (RuntimeException e) {
+                        farm.fault = e;  // isolated: reported and unloaded after the join
+                    }
+                }
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Step(farms, start, lo, mid, skip, deadline),
+                          new Step(farms, start, mid, hi, skip, deadline));
+            }
+        }
+    }
+
+    // ── Budget ─────────────────────────────────────────────────────────
+
+    public int budgetMicros() {
+        return (int) (budgetNanos / 1000);
+    }
+
+    /** Per-client-tick time budget in µs; 0 waits for every step to finish. */
+    public void setBudgetMicros(int micros) {
+        budgetNanos = Math.max(0, micros) * 1000L;
+    }
+
+    /** Client ticks on which a step was still running when the budget ran out. */
+    public long overruns() {
+        return overruns;
+    }
+
+    /** Analytic catch-ups across loaded farms (farms that fell behind). */
+    public long catchUps() {
+        long n = 0;
+        for (Farm farm : farms.values()) n += farm.catchUps;
+        return n;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  SHUTDOWN
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Save every farm, wait up to {@code timeoutMs} for the writes, stop the threads. */
+    public void shutdown(long timeoutMs) {
+        settle();
+        for (Farm farm : farms.values()) {
+            farm.save();
+            farm.saves.shutdown(timeoutMs);
+        }
+        writer.shutdown();
+        pool.shutdown();
+    }
+}
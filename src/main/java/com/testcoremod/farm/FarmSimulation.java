@@ -0,0 +1,394 @@
+package com.testcoremod.farm;
+
+import com.testcoremod.metrics.FarmEvents;
+import com.testcoremod.metrics.Metrics;
+
+import java.util.Arrays;
+
+import static com.testcoremod.farm.FarmRules.*;
+
+/**
+ * FarmSimulation — headless growth / season / evaporation engine.
+ *
+ * Owns the per-tick rules that used to live (three times, with drift) in
+ * {@code SampleMenuScreen.tick()}, {@code tickOffscreen()} and
+ * {@code catchUpOfflineGrowth()}. Has no Minecraft dependencies, so it can
+ * run and be benchmarked on a plain JVM.
+ *
+ * Per tick, in order:
+ *   1. every planted, unripe plot grows by its current rate
+ *   2. the season clock advances (and wraps to the next season)
+ *   3. the water clock advances; every {@link FarmRules#EVAPORATE_TICKS} all water dries
+ *
+ * Growth is event-driven rather than scanned. A plot's rate factors into a
+ * per-plot part (crop speed × water) and a farm-wide part (season × soil ×
+ * speed multiplier). The engine advances one "growth clock" by the
+ * farm-wide part each tick, so a plot's maturity is a fixed point on that
+ * clock that only moves when its own water or growth changes. Maturity
+ * points sit in a {@link MaturityQueue}; a tick costs O(plots maturing),
+ * and season or soil changes re-key nothing.
+ *
+ * The flip side: {@code plots.growth[i]} is only brought up to date when
+ * asked. Outside the engine, call {@link #sync(int)} before reading a
+ * growing plot and {@link #replan(int)} after changing its crop, water or
+ * growth. {@link #syncAll()} before saving; {@link #rebuild()} after
+ * replacing the farm state wholesale.
+ *
+ * A sync derives growth from the value and clock recorded at the last
+ * replan rather than accumulating onto the last sync, so how often callers
+ * sync (the UI does every tick, a replay doesn't) never changes the
+ * outcome: the same start state and inputs give bit-identical farms.
+ *
+ * Callers that need to react (UI refresh, chat notifications) pass a
+ * {@link Listener}; all callbacks fire synchronously from {@link #step}.
+ */
+public final class FarmSimulation {
+
+    /** Receives simulation events. All methods are optional. */
+    public interface Listener {
+        /** A plot reached 100% growth during this step. */
+        default void onPlotMatured(int plot) {}
+        /** The season rolled over to {@code seasonIndex}. */
+        default void onSeasonChanged(int seasonIndex) {}
+        /** Water evaporated from {@code plotsDried} plots (only fired if > 0). */
+        default void onWaterEvaporated(int plotsDried) {}
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {};
+
+    /** Largest growth a plot can show before its maturity event has fired. */
+    private static final float ALMOST_RIPE = Math.nextDown(1.0f);
+
+    private final FarmData data;
+    /** Season rollovers counted by {@link #advanceSeasonClock} (for catch-up summaries). */
+    private long seasonsPassed;
+
+    // ── Maturity scheduler ────────────────────────────────────────────
+    private final MaturityQueue queue = new MaturityQueue(FarmData.DEFAULT_PLOTS);
+    private double   growthClock;          // Σ farm-wide rate multiplier over elapsed ticks
+    private double[] anchorClock = new double[0];  // growthClock at plot i's last replan
+    private float[]  anchorGrowth = new float[0];  // plots.growth[i] at that replan
+    private float[]  plotRate    = new float[0];   // per-plot growth per unit of growthClock (0 = idle)
+    private int[]    scratch     = new int[0];
+    private int      trackedSize = -1;       // plots.size() the scheduler was built for
+
+    public FarmSimulation(FarmData data) {
+        this.data = data;
+        rebuild();
+    }
+
+    public FarmData data() {
+        return data;
+    }
+
+    /** Advance the farm by {@code ticks} ticks without reporting events. */
+    public void step(int ticks) {
+        step(ticks, NO_LISTENER);
+    }
+
+    /** Advance the farm by {@code ticks} ticks, reporting events to {@code listener}. */
+    public void step(int ticks, Listener listener) {
+        FarmEvents.Step event = new FarmEvents.Step();
+        event.begin();
+        ensureTracked();
+        int matured = 0;
+        for (int t = 0; t < ticks; t++) {
+            matured += growOneTick(listener);
+            advanceSeason(listener);
+            advanceWater(listener);
+            data.ticks++;
+        }
+        Metrics.TICKS_SIMULATED.add(ticks);
+        if (event.shouldCommit()) {
+            event.farm    = data.farmName;
+            event.ticks   = ticks;
+            event.plots   = data.plots.size();
+            event.matured = matured;
+            event.commit();
+        }
+    }
+
+    /** Current growth rate (progress per tick) of plot {@code i}; 0 if empty or ripe. */
+    public float growthRate(int i) {
+        return baseRate(i) * SEASON_GROWTH[data.seasonIndex];  // Summer boost / Winter penalty
+    }
+
+    /** Growth per tick of plot {@code i} before the season modifier; 0 if empty or ripe. */
+    private float baseRate(int i) {
+        return plotRate(i) * farmMult();
+    }
+
+    /** The per-plot part of the growth rate: crop speed × water; 0 if empty or ripe. */
+    private float plotRate(int i) {
+        PlotStore plots = data.plots;
+        if (plots.type[i] < 0 || plots.growth[i] >= 1.0f) return 0f;
+        float speed = GROW_SPEEDS[plots.type[i]] * waterMult(plots.watered[i], plots.lucky[i]);
+        return speed * GROWTH_SCALE;
+    }
+
+    /** The farm-wide part of the growth rate, excluding season. */
+    private float farmMult() {
+        return data.speedMult                      // v5: speed multiplier (internal)
+                * soilMult(data.soilLevel);        // v6: Soil Quality bonus
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  SCHEDULER — lazy growth, maturity events
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Bring {@code plots.growth[i]} up to date. Cheap; call before reading a growing plot. */
+    public void sync(int i) {
+        ensureTracked();
+        syncPlot(i);
+    }
+
+    /** Bring every plot's growth up to date (before saving or bulk reads). */
+    public void syncAll() {
+        ensureTracked();
+        GrowthKernels.sync(data.plots.growth, anchorGrowth, plotRate, anchorClock, growthClock,
+                ALMOST_RIPE, trackedSize);
+    }
+
+    /** One plot of {@link GrowthKernels#sync} — keep the arithmetic identical. */
+    private void syncPlot(int i) {
+        float rate = plotRate[i];
+        if (rate > 0f) {
+            double g = anchorGrowth[i] + rate * (growthClock - anchorClock[i]);
+            data.plots.growth[i] = (float) Math.min(g, ALMOST_RIPE);  // ripe only via its event
+        }
+    }
+
+    /**
+     * Re-key plot {@code i} after its crop, water or growth changed. Takes
+     * {@code plots.growth[i]} as current, so {@link #sync(int)} first if
+     * the growth wasn't just set.
+     */
+    public void replan(int i) {
+        ensureTracked();
+        float rate = plotRate(i);
+        plotRate[i] = rate;
+        anchorClock[i] = growthClock;
+        anchorGrowth[i] = data.plots.growth[i];
+        if (rate > 0f) {
+            queue.update(i, growthClock + (1.0 - data.plots.growth[i]) / rate);
+        } else {
+            queue.remove(i);
+        }
+    }
+
+    /** Re-key every plot from the current farm state (after replacing it wholesale). */
+    public void rebuild() {
+        PlotStore plots = data.plots;
+        int n = plots.size();
+        if (plotRate.length < plots.capacity()) {
+            anchorClock  = new double[plots.capacity()];
+            anchorGrowth = new float[plots.capacity()];
+            plotRate     = new float[plots.capacity()];
+            scratch      = new int[plots.capacity()];
+        }
+        double[] keys = anchorClock;  // reused: keys first, anchors after
+        int queued = 0;
+        for (int i = 0; i < n; i++) {
+            float rate = plotRate(i);
+            plotRate[i] = rate;
+            if (rate > 0f) {
+                keys[i] = growthClock + (1.0 - plots.growth[i]) / rate;
+                scratch[queued++] = i;
+            }
+        }
+        queue.rebuild(scratch, queued, keys);
+        Arrays.fill(anchorClock, 0, n, growthClock);
+        System.arraycopy(plots.growth, 0, anchorGrowth, 0, n);
+        trackedSize = n;
+    }
+
+    /** Plots scheduled to mature. */
+    public int pendingMaturities() {
+        return queue.size();
+    }
+
+    /** Re-sync after the plot store was resized behind our back. */
+    private void ensureTracked() {
+        int n = data.plots.size();
+        if (n == trackedSize) return;
+        int kept = Math.min(n, trackedSize);
+        for (int i = 0; i < kept; i++) syncPlot(i);  // plots that survived keep their growth
+        rebuild();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  CLOSED-FORM CATCH-UP
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Summary of one {@link #catchUp(long)} call. */
+    public static final class CatchUpResult {
+        public final int  cropsGrown;
+        public final int  cropsMatured;
+        public final long seasonsPassed;
+
+        CatchUpResult(int cropsGrown, int cropsMatured, long seasonsPassed) {
+            this.cropsGrown    = cropsGrown;
+            this.cropsMatured  = cropsMatured;
+            this.seasonsPassed = seasonsPassed;
+        }
+    }
+
+    /**
+     * Advance the farm by {@code ticks} ticks analytically, giving the same
+     * state as {@code step(ticks)} (up to float rounding) without ticking.
+     *
+     * Within one season a plot's rate is constant, and the only per-plot
+     * rate change is water drying at the next evaporation. So growth is
+     * {@code baseRate × Σ seasonGrowth} over the wet window, then again with
+     * the dry rate over the remainder. Σ seasonGrowth is summed season by
+     * season, with whole cycles collapsed into one multiply — cost is
+     * O(plots + seasons touched), independent of how long the gap was.
+     */
+    public CatchUpResult catchUp(long ticks) {
+        if (ticks <= 0) return new CatchUpResult(0, 0, 0);
+        FarmEvents.CatchUp event = new FarmEvents.CatchUp();
+        event.begin();
+        syncAll();
+        PlotStore plots = data.plots;
+        int grown = 0;
+        for (int i = 0; i < plots.size(); i++) {
+            if (plots.type[i] >= 0 && plots.growth[i] < 1.0f) grown++;
+        }
+        long seasonsBefore = seasonsPassed;
+
+        // ── Wet window: water holds until the next evaporation ────────
+        long wet = Math.min(ticks, EVAPORATE_TICKS - data.waterTicks);
+        int matured = growAll(advanceSeasonClock(wet));
+        data.waterTicks += (int) wet;
+
+        // ── Dry remainder: later evaporations find nothing to dry ─────
+        long dry = ticks - wet;
+        if (data.waterTicks >= EVAPORATE_TICKS) {
+            data.waterTicks = 0;
+            plots.dryAll();
+            for (int i = 0; i < plots.size(); i++) plotRate[i] = plotRate(i);  // water multiplier gone
+        }
+        if (dry > 0) {
+            matured += growAll(advanceSeasonClock(dry));
+            data.waterTicks = (int) (dry % EVAPORATE_TICKS);
+        }
+        rebuild();
+        data.ticks += ticks;
+        Metrics.TICKS_SIMULATED.add(ticks);
+        Metrics.PLOTS_MATURED.add(matured);
+        if (event.shouldCommit()) {
+            event.farm         = data.farmName;
+            event.elapsedTicks = ticks;
+            event.plots        = grown;
+            event.matured      = matured;
+            event.seasons      = seasonsPassed - seasonsBefore;
+            event.vector       = GrowthKernels.VECTOR;
+            event.commit();
+        }
+        return new CatchUpResult(grown, matured, seasonsPassed - seasonsBefore);
+    }
+
+    /**
+     * Advance the season clock by {@code ticks} and return the season-weighted
+     * tick count Σ SEASON_GROWTH over those ticks.
+     */
+    private double advanceSeasonClock(long ticks) {
+        double weighted = 0;
+        int  si = data.seasonIndex;
+        long st = data.seasonTicks;
+        long t  = ticks;
+
+        // Finish the current season (if reached)
+        long toEnd = SEASON_TICKS[si] - st;
+        if (t >= toEnd) {
+            weighted += toEnd * (double) SEASON_GROWTH[si];
+            t -= toEnd;
+            si = (si + 1) % SEASON_COUNT;
+            st = 0;
+            seasonsPassed++;
+
+            // Whole cycles in one step
+            long cycles = t / CYCLE_TICKS;
+            weighted += cycles * CYCLE_GROWTH;
+            t -= cycles * CYCLE_TICKS;
+            seasonsPassed += cycles * SEASON_COUNT;
+
+            // Remaining whole seasons (at most SEASON_COUNT - 1)
+            while (t >= SEASON_TICKS[si]) {
+                weighted += SEASON_TICKS[si] * (double) SEASON_GROWTH[si];
+                t -= SEASON_TICKS[si];
+                si = (si + 1) % SEASON_COUNT;
+                seasonsPassed++;
+            }
+        }
+        weighted += t * (double) SEASON_GROWTH[si];
+        data.seasonIndex = si;
+        data.seasonTicks = (int) (st + t);
+        return weighted;
+    }
+
+    /**
+     * Grow every plot by {@code baseRate × weightedTicks}; returns how many
+     * matured. Works off the scheduler's per-plot rates (current after
+     * {@link #syncAll()}); plots that ripen drop to rate 0, and
+     * {@link #catchUp} rebuilds the schedule afterwards.
+     */
+    private int growAll(double weightedTicks) {
+        if (weightedTicks <= 0) return 0;
+        return GrowthKernels.grow(data.plots.growth, plotRate, farmMult(), weightedTicks, data.plots.size());
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  PER-TICK RULES
+    // ═══════════════════════════════════════════════════════════════════
+
+    /** Advance the growth clock and fire every maturity now due — O(plots maturing). Returns how many. */
+    private int growOneTick(Listener listener) {
+        int matured = 0;
+        growthClock += farmMult() * SEASON_GROWTH[data.seasonIndex];  // Summer boost / Winter penalty
+        while (queue.peekKey() <= growthClock) {
+            int i = queue.poll();
+            data.plots.growth[i] = 1.0f;
+            plotRate[i] = 0f;
+            anchorClock[i] = growthClock;
+            Metrics.PLOTS_MATURED.increment();
+            listener.onPlotMatured(i);
+            matured++;
+        }
+        return matured;
+    }
+
+    private void advanceSeason(Listener listener) {
+        data.seasonTicks++;
+        if (data.seasonTicks >= SEASON_TICKS[data.seasonIndex]) {
+            data.seasonTicks = 0;
+            data.seasonIndex = (data.seasonIndex + 1) % SEASON_COUNT;
+            listener.onSeasonChanged(data.seasonIndex);
+        }
+    }
+
+    private void advanceWater(Listener listener) {
+        data.waterTicks++;
+        if (data.waterTicks >= EVAPORATE_TICKS) {
+            data.waterTicks = 0;
+            int dried = dryAll();
+            if (dried > 0) listener.onWaterEvaporated(dried);
+        }
+    }
+
+    /** Evaporate all water, re-keying each plot that loses it. */
+    private int dryAll() {
+        PlotStore plots = data.plots;
+        int dried = 0;
+        for (int i = 0; i < plots.size(); i++) {
+            if (plots.watered[i]) {
+                syncPlot(i);
+                plots.watered[i] = false;
+                plots.lucky[i]   = false;
+                replan(i);
+                dried++;
+            }
+        }
+        return dried;
+    }
+}
@@ -0,0 +1,112 @@
+package com.testcoremod.farm;
+
+/**
+ * GrowthKernels — the bulk growth loops of {@link FarmSimulation}.
+ *
+ * Two loops touch every plot: {@link #sync} (bring lazily-grown plots
+ * current, before saves and catch-up) and {@link #grow} (closed-form
+ * catch-up). Both are the same short multiply-add-clamp chain over the
+ * plot arrays, so they run through {@link #SIMD} — {@code VectorGrowth},
+ * on the incubating {@code jdk.incubator.vector} API — when the JVM has
+ * that module, and through the scalar loops here otherwise.
+ * {@code VectorGrowth} is compiled in its own source set
+ * ({@code src/vector/java}) so that nothing else needs the incubator
+ * module to build; it is loaded reflectively.
+ *
+ * The vector path does the same IEEE operations in the same order — no
+ * fused multiply-add, same float/double widening — so both paths give
+ * bit-identical farms and replays ({@link FarmRecording}) match either way.
+ *
+ * Enable with the JVM flag {@code --add-modules jdk.incubator.vector};
+ * {@code -Dvirtualfarm.simd=false} forces the scalar path.
+ */
+public final class GrowthKernels {
+
+    /** The SIMD loops; implemented by {@code VectorGrowth}. */
+    public interface Kernel {
+        void sync(float[] growth, float[] anchorGrowth, float[] rate, double[] anchorClock,
+                  double clock, float cap, int n);
+
+        int grow(float[] growth, float[] rate, float farmMult, double weightedTicks, int n);
+
+        /** Lane count and width, e.g. "8 lanes, 512-bit". */
+        String describe();
+    }
+
+    /** The vector kernel, or null when the module is absent or SIMD is switched off. */
+    public static final Kernel SIMD = loadVector();
+    /** Whether {@link #sync} and {@link #grow} use {@link #SIMD}. */
+    public static final boolean VECTOR = SIMD != null;
+
+    private GrowthKernels() {}
+
+    /** Which loops are in use, for {@code /uisample stats}. */
+    public static String describe() {
+        return VECTOR ? "vector (" + SIMD.describe() + ")"
+                      : "scalar (add --add-modules jdk.incubator.vector for SIMD)";
+    }
+
+    private static Kernel loadVector() {
+        if (!Boolean.parseBoolean(System.getProperty("virtualfarm.simd", "true"))) return null;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            return (Kernel) Class.forName("com.testcoremod.farm.VectorGrowth")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;  // built without the vector source set: scalar loops
+        }
+    }
+
+    /**
+     * For each growing plot ({@code rate[i] > 0}) in {@code [0, n)}:
+     * {@code growth[i] = min(anchorGrowth[i] + rate[i] × (clock − anchorClock[i]), cap)}.
+     */
+    public static void sync(float[] growth, float[] anchorGrowth, float[] rate, double[] anchorClock,
+                            double clock, float cap, int n) {
+        if (VECTOR) {
+            SIMD.sync(growth, anchorGrowth, rate, anchorClock, clock, cap, n);
+        } else {
+            syncScalar(growth, anchorGrowth, rate, anchorClock, clock, cap, 0, n);
+        }
+    }
+
+    /**
+     * For each growing plot ({@code rate[i] > 0}) in {@code [0, n)}:
+     * {@code growth[i] = min(growth[i] + rate[i] × farmMult × weightedTicks, 1)}.
+     * Plots that reach 1 get {@code rate[i] = 0}. Returns how many did.
+     */
+    public static int grow(float[] growth, float[] rate, float farmMult, double weightedTicks, int n) {
+        return VECTOR
+                ? SIMD.grow(growth, rate, farmMult, weightedTicks, n)
+                : growScalar(growth, rate, farmMult, weightedTicks, 0, n);
+    }
+
+    // ── Scalar loops (also the vector path's tail) ──────────────────────
+
+    public static void syncScalar(float[] growth, float[] anchorGrowth, float[] rate, double[] anchorClock,
+                                  double clock, float cap, int from, int to) {
+        for (int i = from; i < to; i++) {
+            float r = rate[i];
+            if (r > 0f) {
+                double g = anchorGrowth[i] + r * (clock - anchorClock[i]);
+                growth[i] = (float) Math.min(g, cap);
+            }
+        }
+    }
+
+    public static int growScalar(float[] growth, float[] rate, float farmMult, double weightedTicks,
+                                 int from, int to) {
+        int matured = 0;
+        for (int i = from; i < to; i++) {
+            float r = rate[i] * farmMult;
+            if (r > 0f) {
+                growth[i] = (float) Math.min(1.0, growth[i] + r * weightedTicks);
+                if (growth[i] >= 1.0f) {
+                    rate[i] = 0f;
+                    matured++;
+                }
+            }
+        }
+        return matured;
+    }
+}
@@ -0,0 +1,151 @@
+package com.testcoremod.farm;
+
+import java.util.Arrays;
+
+/**
+ * MaturityQueue — indexed binary min-heap of plots keyed by maturity time.
+ *
+ * Each plot appears at most once. {@link #update} inserts a plot or moves it
+ * to a new key in O(log n); {@link #remove} takes it out in O(log n). The
+ * plot → heap-slot index makes re-keying a single plot cheap, which is what
+ * the scheduler needs when water or fertilizer changes one plot's rate.
+ */
+final class MaturityQueue {
+
+    private int[]    heap;   // heap slot → plot
+    private int[]    pos;    // plot → heap slot, -1 = not queued
+    private double[] key;    // plot → maturity key
+    private int      size;
+
+    MaturityQueue(int capacity) {
+        int cap = Math.max(1, capacity);
+        heap = new int[cap];
+        pos  = new int[cap];
+        key  = new double[cap];
+        Arrays.fill(pos, -1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int plot) {
+        return plot < pos.length && pos[plot] >= 0;
+    }
+
+    /** Smallest key in the queue; {@code +∞} if empty. */
+    double peekKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : key[heap[0]];
+    }
+
+    /** Remove and return the plot with the smallest key. */
+    int poll() {
+        int plot = heap[0];
+        removeAt(0);
+        return plot;
+    }
+
+    /** Insert {@code plot} with {@code k}, or move it to {@code k} if queued. */
+    void update(int plot, double k) {
+        ensureCapacity(plot + 1);
+        int slot = pos[plot];
+        key[plot] = k;
+        if (slot < 0) {
+            slot = size++;
+            heap[slot] = plot;
+            pos[plot] = slot;
+            siftUp(slot);
+        } else {
+            siftUp(slot);
+            siftDown(pos[plot]);
+        }
+    }
+
+    void remove(int plot) {
+        if (contains(plot)) removeAt(pos[plot]);
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    /**
+     * Replace the contents with {@code plots[0..n)} keyed by {@code keys}
+     * (indexed by plot). Bottom-up heapify — O(n).
+     */
+    void rebuild(int[] plots, int n, double[] keys) {
+        clear();
+        for (int i = 0; i < n; i++) {
+            int plot = plots[i];
+            ensureCapacity(plot + 1);
+            heap[i] = plot;
+            pos[plot] = i;
+            key[plot] = keys[plot];
+        }
+        size = n;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) siftDown(i);
+    }
+
+    private void ensureCapacity(int plots) {
+        if (plots <= pos.length) return;
+        int cap = Math.max(plots, pos.length * 2);
+        int old = pos.length;
+        heap = Arrays.copyOf(heap, cap);
+        pos  = Arrays.copyOf(pos, cap);
+        key  = Arrays.copyOf(key, cap);
+        Arrays.fill(pos, old, cap, -1);
+    }
+
+    private void removeAt(int slot) {
+        int plot = heap[slot];
+        pos[plot] = -1;
+        int last = --size;
+        if (slot == last) return;
+        int moved = heap[last];
+        heap[slot] = moved;
+        pos[moved] = slot;
+        siftUp(slot);
+        siftDown(pos[moved]);
+    }
+
+    private void siftUp(int slot) {
+        int plot = heap[slot];
+        double k = key[plot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            int p = heap[parent];
+            if (key[p] <= k) break;
+            heap[slot] = p;
+            pos[p] = slot;
+            slot = parent;
+        }
+        heap[slot] = plot;
+        pos[plot] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int plot = heap[slot];
+        double k = key[plot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int c = heap[child];
+            int right = child + 1;
+            if (right < size && key[heap[right]] < key[c]) {
+                child = right;
+                c = heap[child];
+            }
+            if (k <= key[c]) break;
+            heap[slot] = c;
+            pos[c] = slot;
+            slot = child;
+        }
+        heap[slot] = plot;
+        pos[plot] = slot;
+    }
+}
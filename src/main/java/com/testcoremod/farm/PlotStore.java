@@ -0,0 +1,106 @@
+package com.testcoremod.farm;
+
+import java.util.Arrays;
+
+/**
+ * PlotStore — resizable, primitive-backed plot storage (structure of arrays).
+ *
+ * One array per plot attribute instead of one object per plot, so a farm of
+ * 10,000+ plots is a handful of flat arrays the simulation can stream
+ * through. Arrays have {@link #capacity()} slots; only the first
+ * {@link #size()} are live.
+ *
+ * The array fields are public for hot loops, but {@link #resize(int)} may
+ * replace them — always read them through the store, never cache them.
+ */
+public final class PlotStore {
+
+    /** Hard upper bound on plots per farm. */
+    public static final int MAX_PLOTS = 100_000;
+
+    public float[]   growth;    // 0..1
+    public int[]     type;      // crop type, -1 = empty
+    public boolean[] watered;
+    public boolean[] lucky;     // watered with Lucky Water (3×)
+    public int[]     lastType;  // last crop planted here (double-click auto-replant)
+
+    private int size;
+
+    public PlotStore(int size) {
+        int cap = Math.max(1, size);
+        growth   = new float[cap];
+        type     = new int[cap];
+        watered  = new boolean[cap];
+        lucky    = new boolean[cap];
+        lastType = new int[cap];
+        Arrays.fill(type, -1);
+        Arrays.fill(lastType, -1);
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return growth.length;
+    }
+
+    /**
+     * Grow or shrink the farm to {@code newSize} plots. New plots start
+     * empty; plots cut off by shrinking are cleared so a later grow starts
+     * them empty too. Capacity grows geometrically.
+     */
+    public void resize(int newSize) {
+        if (newSize < 0 || newSize > MAX_PLOTS) {
+            throw new IllegalArgumentException("Plot count out of range: " + newSize);
+        }
+        if (newSize > capacity()) {
+            int cap = Math.max(newSize, Math.min(MAX_PLOTS, capacity() * 2));
+            int old = capacity();
+            growth   = Arrays.copyOf(growth, cap);
+            type     = Arrays.copyOf(type, cap);
+            watered  = Arrays.copyOf(watered, cap);
+            lucky    = Arrays.copyOf(lucky, cap);
+            lastType = Arrays.copyOf(lastType, cap);
+            Arrays.fill(type, old, cap, -1);
+            Arrays.fill(lastType, old, cap, -1);
+        }
+        if (newSize < size) clearRange(newSize, size);
+        size = newSize;
+    }
+
+    /** Empty a single plot. */
+    public void clear(int i) {
+        growth[i]  = 0f;
+        type[i]    = -1;
+        watered[i] = false;
+        lucky[i]   = false;
+    }
+
+    /** Empty every plot (keeps the plot count). */
+    public void clearAll() {
+        clearRange(0, size);
+    }
+
+    /** Remove water from every plot; returns how many were watered. */
+    public int dryAll() {
+        int dried = 0;
+        for (int i = 0; i < size; i++) {
+            if (watered[i]) {
+                watered[i] = false;
+                lucky[i]   = false;
+                dried++;
+            }
+        }
+        return dried;
+    }
+
+    private void clearRange(int from, int to) {
+        Arrays.fill(growth, from, to, 0f);
+        Arrays.fill(type, from, to, -1);
+        Arrays.fill(watered, from, to, false);
+        Arrays.fill(lucky, from, to, false);
+        Arrays.fill(lastType, from, to, -1);
+    }
+}
@@ -0,0 +1,247 @@
+package com.testcoremod.farm;
+
+import com.testcoremod.metrics.FarmEvents;
+import com.testcoremod.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SaveService — writes farm saves on a background thread.
+ *
+ * {@link #submit} encodes a snapshot of the farm on the calling (game)
+ * thread — a memory copy, no I/O — and hands it to a single writer thread.
+ * Only the newest snapshot is kept: a burst of submits while a write is in
+ * flight collapses into one follow-up write.
+ *
+ * Each write goes to {@code <file>.tmp}, is forced to disk, then moved
+ * over the save with {@code ATOMIC_MOVE}, so a crash leaves either the old
+ * save or the new one, never a truncated file.
+ *
+ * Between snapshots, {@link FarmJournal} records are appended to the
+ * journal file on the same thread. Writing a snapshot compacts the journal:
+ * records the snapshot already covers are dropped, newer ones are kept.
+ *
+ * Several farms can share one writer thread ({@link #newWriter()}); each
+ * service still coalesces its own snapshots and owns its own files.
+ */
+public final class SaveService {
+
+    /** An encoded snapshot plus the last journal record it covers. */
+    private record Snapshot(ByteBuffer bytes, long journalSeq) {}
+
+    private final Path file;
+    private final Path journalFile;
+    private final ExecutorService writer;
+    private final boolean ownsWriter;
+    private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> journalQueue = new ConcurrentLinkedQueue<>();
+    private FileChannel journal;   // writer thread only
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written   = new AtomicLong();
+
+    public SaveService(Path file) {
+        this(file, newWriter(), true);
+    }
+
+    /** A service writing on a shared {@code writer}; {@link #shutdown} leaves it running. */
+    public SaveService(Path file, ExecutorService writer) {
+        this(file, writer, false);
+    }
+
+    private SaveService(Path file, ExecutorService writer, boolean ownsWriter) {
+        this.file = file;
+        this.journalFile = file.resolveSibling(FarmJournal.FILE);
+        this.writer = writer;
+        this.ownsWriter = ownsWriter;
+    }
+
+    /** A single daemon writer thread, for one service or several sharing it. */
+    public static ExecutorService newWriter() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "VirtualFarm-Save");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public Path journalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Snapshot {@code data} now and write it in the background. Journal
+     * records up to {@code data.journalSeq} are dropped once it is on disk.
+     * Call on the game thread.
+     */
+    public void submit(FarmData data) {
+        long probe = Metrics.SAVE_ENCODE.begin();
+        pending.set(new Snapshot(FarmSaveFormat.encode(data), data.journalSeq));
+        Metrics.SAVE_ENCODE.end(probe);
+        submitted.incrementAndGet();
+        schedule();
+    }
+
+    /** Append an encoded journal record in the background. */
+    void append(ByteBuffer record) {
+        journalQueue.add(record);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) writer.execute(this::drain);
+    }
+
+    /**
+     * Drop any pending snapshot and delete the save (plus {@code extra}
+     * files) on the writer thread, after writes already in flight.
+     */
+    public void delete(Path... extra) {
+        pending.set(null);
+        journalQueue.clear();
+        writer.execute(() -> {
+            try {
+                closeJournal();
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(journalFile);
+                for (Path p : extra) Files.deleteIfExists(p);
+            } catch (IOException e) {
+                System.err.println("[TestCoreMod] Failed to delete farm save: " + e.getMessage());
+            }
+        });
+    }
+
+    /** Wait up to {@code timeoutMs} for queued writes to finish. Returns false on timeout. */
+    public boolean flush(long timeoutMs) {
+        try {
+            writer.submit(() -> {}).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Flush, close the journal and stop the writer thread (unless shared). */
+    public void shutdown(long timeoutMs) {
+        writer.execute(this::closeJournal);
+        flush(timeoutMs);
+        if (ownsWriter) writer.shutdown();
+    }
+
+    /** Snapshots submitted so far. */
+    public long submitted() {
+        return submitted.get();
+    }
+
+    /** Snapshots actually written (submitted minus coalesced). */
+    public long written() {
+        return written.get();
+    }
+
+    private void drain() {
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        while (true) {
+            do {
+                // Records first, then the snapshot: any record queued after a
+                // snapshot was taken is either in this batch or the next one,
+                // never appended and then truncated away.
+                ByteBuffer r;
+                while ((r = journalQueue.poll()) != null) records.add(r);
+                Snapshot snap = pending.getAndSet(null);
+                try {
+                    if (snap != null) {
+                        FarmEvents.Save event = new FarmEvents.Save();
+                        event.begin();
+                        long probe = Metrics.SAVE_WRITE.begin();
+                        int size = snap.bytes().remaining();
+                        writeAtomically(file, snap.bytes());
+                        Metrics.SAVE_WRITE.end(probe);
+                        if (event.shouldCommit()) {
+                            event.path  = file.toString();
+                            event.kind  = "snapshot";
+                            event.bytes = size;
+                            event.commit();
+                        }
+                        written.incrementAndGet();
+                        openJournal().truncate(0);
+                        records.removeIf(rec -> FarmJournal.seqOf(rec) <= snap.journalSeq());
+                    }
+                    if (!records.isEmpty()) {
+                        FarmEvents.Save event = new FarmEvents.Save();
+                        event.begin();
+                        FileChannel ch = openJournal();
+                        long bytes = 0;
+                        for (ByteBuffer rec : records) {
+                            while (rec.hasRemaining()) bytes += ch.write(rec);
+                        }
+                        ch.force(false);
+                        if (event.shouldCommit()) {
+                            event.path    = journalFile.toString();
+                            event.kind    = "journal";
+                            event.bytes   = bytes;
+                            event.records = records.size();
+                            event.commit();
+                        }
+                    }
+                } catch (IOException e) {
+                    System.err.println("[TestCoreMod] Failed to save farm: " + e.getMessage());
+                }
+                records.clear();
+            } while (pending.get() != null || !journalQueue.isEmpty());
+            scheduled.set(false);
+            // A submit may have landed between the last poll and the flag reset
+            if ((pending.get() == null && journalQueue.isEmpty())
+                    || !scheduled.compareAndSet(false, true)) return;
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journal == null || !journal.isOpen()) {
+            journal = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return journal;
+    }
+
+    private void closeJournal() {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException ignored) {}
+        journal = null;
+    }
+
+    /** Write {@code buf} to {@code target} via a temp file and an atomic rename. */
+    public static void writeAtomically(Path target, ByteBuffer buf) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
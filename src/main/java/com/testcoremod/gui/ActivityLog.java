@@ -0,0 +1,221 @@
+package com.testcoremod.gui;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ActivityLog — the Log tab's history: a ring buffer of (text, colour)
+ * entries with O(1) append, plus an optional spill to a rotating file.
+ *
+ * Entries are addressed newest-first ({@code back} = 0 is the latest).
+ * Once full, each append overwrites the oldest entry in place. The
+ * capacity can be changed at any time; the newest entries are kept.
+ *
+ * With {@link #spillTo} set, every entry is also queued as a timestamped
+ * line for a background thread that appends it to {@code <file>},
+ * rotating to {@code <file>.1 … .<ROTATE_KEEP>} past {@link #ROTATE_BYTES}.
+ * The game thread never touches the disk.
+ *
+ * Game thread only, apart from the spill writer.
+ */
+final class ActivityLog {
+
+    static final int MIN_CAPACITY = 5;
+    static final int MAX_CAPACITY = 100_000;
+    static final long ROTATE_BYTES = 1L << 20;   // 1 MiB per file
+    static final int  ROTATE_KEEP  = 3;          // .1 … .3 kept behind the live file
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private String[] text;
+    private int[]    color;
+    private int head;     // next slot to write
+    private int size;
+    private long total;   // entries ever added
+
+    // ── File spill ──────────────────────────────────────────────────────
+    private volatile Path spillFile;
+    private final ConcurrentLinkedQueue<Line> spillQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private ExecutorService spillWriter;
+    private Writer out;    // spill writer thread only
+    private long outBytes;
+
+    ActivityLog(int capacity) {
+        int cap = clampCapacity(capacity);
+        text  = new String[cap];
+        color = new int[cap];
+    }
+
+    static int clampCapacity(int capacity) {
+        return Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacity));
+    }
+
+    void add(String t, int c) {
+        text[head]  = t;
+        color[head] = c;
+        head = (head + 1) % text.length;
+        if (size < text.length) size++;
+        total++;
+        if (spillFile != null) {
+            spillQueue.add(new Line(System.currentTimeMillis(), t));  // formatted on the writer thread
+            if (scheduled.compareAndSet(false, true)) spillWriter.execute(this::drain);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return text.length;
+    }
+
+    /** Entries ever added (including those since overwritten). */
+    long total() {
+        return total;
+    }
+
+    /** Text of the entry {@code back} places before the newest. */
+    String text(int back) {
+        return text[slot(back)];
+    }
+
+    int color(int back) {
+        return color[slot(back)];
+    }
+
+    private int slot(int back) {
+        int i = head - 1 - back;
+        return i < 0 ? i + text.length : i;
+    }
+
+    /** Resize, keeping the newest {@code min(size, capacity)} entries. */
+    void setCapacity(int capacity) {
+        int cap = clampCapacity(capacity);
+        if (cap == text.length) return;
+        int keep = Math.min(size, cap);
+        String[] t = new String[cap];
+        int[]    c = new int[cap];
+        for (int back = keep - 1, i = 0; back >= 0; back--, i++) {  // oldest kept first
+            t[i] = text(back);
+            c[i] = color(back);
+        }
+        text  = t;
+        color = c;
+        size  = keep;
+        head  = keep % cap;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  FILE SPILL
+    // ═══════════════════════════════════════════════════════════════════
+
+    Path spillFile() {
+        return spillFile;
+    }
+
+    /** Start appending new entries to {@code file}, or stop with {@code null}. */
+    void spillTo(Path file) {
+        if (file != null && spillWriter == null) {
+            spillWriter = Executors.newSingleThreadExecutor(r -> {
+                Thread th = new Thread(r, "VirtualFarm-Log");
+                th.setDaemon(true);
+                return th;
+            });
+        }
+        Path old = spillFile;
+        spillFile = file;
+        if (old != null && spillWriter != null) spillWriter.execute(this::closeOut);
+    }
+
+    /** Write out queued lines and stop the writer thread. */
+    void shutdown(long timeoutMs) {
+        if (spillWriter == null) return;
+        spillWriter.execute(this::closeOut);
+        spillWriter.shutdown();
+        try {
+            spillWriter.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spillWriter = null;
+        spillFile = null;
+    }
+
+    private record Line(long millis, String text) {}
+
+    private void drain() {
+        while (true) {
+            Line line;
+            while ((line = spillQueue.poll()) != null) write(line);
+            try {
+                if (out != null) out.flush();
+            } catch (IOException e) {
+                failed(e);
+            }
+            scheduled.set(false);
+            // An add may have landed between the last poll and the flag reset
+            if (spillQueue.isEmpty() || !scheduled.compareAndSet(false, true)) return;
+        }
+    }
+
+    private void write(Line entry) {
+        Path file = spillFile;
+        if (file == null) return;  // switched off; drop what was queued
+        String line = STAMP.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.millis()), ZoneId.systemDefault()))
+                + "  " + entry.text() + System.lineSeparator();
+        try {
+            if (out == null) {
+                out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                outBytes = Files.size(file);
+            }
+            out.write(line);
+            outBytes += line.length();  // close enough for rotation
+            if (outBytes >= ROTATE_BYTES) rotate(file);
+        } catch (IOException e) {
+            failed(e);
+        }
+    }
+
+    private void rotate(Path file) throws IOException {
+        closeOut();
+        for (int i = ROTATE_KEEP - 1; i >= 1; i--) {
+            Path from = file.resolveSibling(file.getFileName() + "." + i);
+            if (Files.exists(from)) {
+                Files.move(from, file.resolveSibling(file.getFileName() + "." + (i + 1)),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void closeOut() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {}
+        out = null;
+    }
+
+    private void failed(IOException e) {
+        System.err.println("[TestCoreMod] Activity log spill failed, turning it off: " + e.getMessage());
+        spillFile = null;
+        closeOut();
+    }
+}
@@ -0,0 +1,119 @@
+package com.testcoremod.gui;
+
+import com.pocketuicore.animation.AnimationTicker;
+import com.pocketuicore.animation.AnimationTicker.EasingType;
+
+import java.util.Arrays;
+
+/**
+ * AnimationTable — int-handle animations for the farm screen.
+ *
+ * Same model as {@link AnimationTicker} (from → to over a duration, eased),
+ * but addressed by int handles instead of string keys, and stored in flat
+ * primitive arrays instead of a map of objects. Screen-wide animations have
+ * fixed handles; each grid cell owns {@link #PER_CELL} consecutive handles
+ * from {@link #cell(int, int)}. Starting and querying is array indexing — no
+ * key strings, no hashing, no allocation.
+ *
+ * Cell animations belong to the widget slot, not the plot it shows, so the
+ * table is sized by the viewport however many plots the farm has; paging
+ * to other plots cancels them ({@link #cancelCells()}).
+ *
+ * Every animation on the screen runs 0 → 1 or 1 → 0, so the range is stored
+ * as one direction bit next to the easing rather than two floats per handle.
+ * Time is milliseconds since the table was created; {@link #frame()} samples
+ * the clock once so all queries in a frame see the same instant.
+ */
+final class AnimationTable {
+
+    // ── Screen-wide handles ─────────────────────────────────────────────
+    static final int SELECT_PULSE   = 0;
+    static final int SEASON_FLASH   = 1;
+    static final int GOLD_FLASH     = 2;
+    static final int MODE_SWITCH    = 3;
+    static final int FARM_OPEN      = 4;
+    static final int PRESTIGE_FLASH = 5;
+    private static final int GLOBALS = 6;
+
+    // ── Per-cell kinds (see cell(int, int)) ─────────────────────────────
+    static final int CELL_FLASH = 0;
+    static final int READY      = 1;
+    static final int PLANT      = 2;
+    static final int WATER      = 3;
+    static final int HARVEST    = 4;
+    static final int PER_CELL   = 5;
+
+    private static final int        IDLE      = Integer.MIN_VALUE;
+    private static final int        REVERSED  = 0x80;  // easing flag: runs 1 → 0
+    private static final EasingType[] EASINGS = EasingType.values();
+
+    private final long epoch = System.nanoTime();
+    private int[]   startMs  = new int[0];
+    private short[] duration = new short[0];  // ms
+    private byte[]  easing   = new byte[0];   // EasingType ordinal | REVERSED
+    private int     now;                      // ms, sampled by frame()
+
+    AnimationTable(int cells) {
+        ensure(GLOBALS + cells * PER_CELL);
+    }
+
+    /** Handle of {@code kind} for grid cell {@code slot}. */
+    static int cell(int slot, int kind) {
+        return GLOBALS + slot * PER_CELL + kind;
+    }
+
+    /** Sample the clock for this frame's queries. */
+    void frame() {
+        now = clock();
+    }
+
+    /** Start handle {@code h} from 0 → 1 (or 1 → 0 if {@code reversed}). */
+    void start(int h, boolean reversed, int durationMs, EasingType ease) {
+        ensure(h + 1);
+        now = clock();
+        startMs[h]  = now;
+        duration[h] = (short) Math.max(1, Math.min(durationMs, Short.MAX_VALUE));
+        easing[h]   = (byte) (ease.ordinal() | (reversed ? REVERSED : 0));
+    }
+
+    void start(int h, int durationMs, EasingType ease) {
+        start(h, false, durationMs, ease);
+    }
+
+    /** True while {@code h} is running. */
+    boolean isActive(int h) {
+        return h < startMs.length && startMs[h] != IDLE && now - startMs[h] < duration[h];
+    }
+
+    /** Current value of {@code h}; its end value once finished, {@code def} if never started. */
+    float get(int h, float def) {
+        if (h >= startMs.length || startMs[h] == IDLE) return def;
+        int e = easing[h] & 0xFF;
+        float t = Math.max(0, now - startMs[h]) / (float) duration[h];
+        float v = t >= 1f ? 1f : AnimationTicker.applyEasing(t, EASINGS[e & ~REVERSED]);
+        return (e & REVERSED) != 0 ? 1f - v : v;
+    }
+
+    void cancelAll() {
+        Arrays.fill(startMs, IDLE);
+    }
+
+    /** Stop every cell animation (the cells are about to show other plots). */
+    void cancelCells() {
+        Arrays.fill(startMs, GLOBALS, startMs.length, IDLE);
+    }
+
+    private int clock() {
+        return (int) ((System.nanoTime() - epoch) / 1_000_000L);
+    }
+
+    private void ensure(int handles) {
+        if (handles <= startMs.length) return;
+        int cap = Math.max(handles, startMs.length * 2);
+        int old = startMs.length;
+        startMs  = Arrays.copyOf(startMs, cap);
+        duration = Arrays.copyOf(duration, cap);
+        easing   = Arrays.copyOf(easing, cap);
+        Arrays.fill(startMs, old, cap, IDLE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.testcoremod.gui;
+
+import com.pocketuicore.component.DarkPanel;
+import com.pocketuicore.render.ProceduralRenderer;
+import com.pocketuicore.render.ProceduralRenderer.CachedShape;
+import net.minecraft.client.gui.DrawContext;
+
+/**
+ * CachedPanel — a {@link DarkPanel} whose shadow, rounded fill and border
+ * are baked once into a {@link CachedShape} and replayed every frame.
+ *
+ * DarkPanel recomputes the rounded-corner rows of all three on every
+ * frame. Here they are rebuilt only when something that shapes them
+ * changes — bounds, radius, colours, or the border/shadow flags — which
+ * for the farm screen means when a plot cell changes state, not per
+ * frame. Children render exactly as before.
+ */
+class CachedPanel extends DarkPanel {
+
+    private CachedShape chrome;
+    private int bakedX, bakedY, bakedW, bakedH, bakedR, bakedBg, bakedBorder;
+    private boolean bakedDrawBorder, bakedDrawShadow;
+
+    CachedPanel(int x, int y, int width, int height) {
+        super(x, y, width, height);
+    }
+
+    @Override
+    protected void renderSelf(DrawContext ctx, int mouseX, int mouseY, float delta) {
+        if (chrome == null || dirty()) {
+            bakedX = x;
+            bakedY = y;
+            bakedW = width;
+            bakedH = height;
+            bakedR = getCornerRadius();
+            bakedBg = getBackgroundColor();
+            bakedBorder = getBorderColor();
+            bakedDrawBorder = isDrawBorder();
+            bakedDrawShadow = isDrawShadow();
+            // bakePanel's shadow matches DarkPanel's default (6 layers, alpha 102); we never call setShadow
+            chrome = ProceduralRenderer.bakePanel(x, y, width, height, bakedR,
+                    bakedBg, bakedBorder, bakedDrawBorder, bakedDrawShadow);
+            PanelLayer.bakes++;
+        }
+        chrome.render(ctx);
+        PanelLayer.replays++;
+    }
+
+    private boolean dirty() {
+        return x != bakedX || y != bakedY || width != bakedW || height != bakedH
+                || getCornerRadius() != bakedR
+                || getBackgroundColor() != bakedBg || getBorderColor() != bakedBorder
+                || isDrawBorder() != bakedDrawBorder || isDrawShadow() != bakedDrawShadow;
+    }
+}
@@ -0,0 +1,119 @@
+package com.testcoremod.gui;
+
+import com.pocketuicore.render.ProceduralRenderer;
+import com.pocketuicore.render.ProceduralRenderer.CachedShape;
+import net.minecraft.client.gui.DrawContext;
+
+/**
+ * PanelLayer — the farm screen's retained overlay shapes.
+ *
+ * The season wash over the whole panel, the shop backdrop, the section
+ * dividers, and the hover and watered tints on plot cells are the same
+ * shapes frame after frame. They are baked here and replayed; the season
+ * wash is rebaked only when the season (or the panel position) changes,
+ * the backdrop and dividers when the panel is laid out, and the cell
+ * tints are baked once at the origin and replayed at each cell's offset.
+ * Panels themselves cache through {@link CachedPanel}.
+ *
+ * Only animated or textual work — flashes, the selection pulse,
+ * sparkles, text — is still drawn immediately by the screen.
+ *
+ * Game thread only.
+ */
+final class PanelLayer {
+
+    // ── Counters for the F6 overlay ─────────────────────────────────────
+    /** Shapes baked, ever. */
+    static long bakes;
+    /** Cached shapes replayed, ever. */
+    static long replays;
+    private static long lastBakes, lastReplays, frames, windowStart;
+    private static String statsLine = "panel layer: —";
+
+    private final CachedShape hoverGlow;
+    private final CachedShape wateredTint;
+    private CachedShape shopBackdrop;
+    /** Header, grid and footer dividers; the grid one is hidden in shop mode. */
+    private CachedShape divHeader, divGrid, divFooter;
+    private CachedShape seasonWash;
+    private int washX, washY, washTint;
+
+    /** @param cellW cell width  @param cellH cell height  @param cellR cell corner radius */
+    PanelLayer(int cellW, int cellH, int cellR) {
+        hoverGlow   = ProceduralRenderer.bakeRoundedRect(0, 0, cellW, cellH, cellR, 0x18FFFFFF);
+        wateredTint = ProceduralRenderer.bakeRoundedRect(0, 0, cellW, cellH, cellR, 0x12589EFF);
+        bakes += 2;
+    }
+
+    /**
+     * Called from {@code init()} after the panel has been positioned.
+     * Dividers are {@code divW} wide at {@code divX}; a radius-0 bake is
+     * the same single fill as {@code ProceduralRenderer.drawDivider}.
+     */
+    void layout(int shopX, int shopY, int shopW, int shopH,
+                int divX, int divW, int headerY, int gridY, int footerY, int divCol) {
+        shopBackdrop = ProceduralRenderer.bakeRoundedRect(shopX, shopY, shopW, shopH, 6, 0x20B388FF);
+        divHeader = ProceduralRenderer.bakeRoundedRect(divX, headerY, divW, 1, 0, divCol);
+        divGrid   = ProceduralRenderer.bakeRoundedRect(divX, gridY,   divW, 1, 0, divCol);
+        divFooter = ProceduralRenderer.bakeRoundedRect(divX, footerY, divW, 1, 0, divCol);
+        seasonWash = null;
+        bakes += 4;
+    }
+
+    void seasonWash(DrawContext ctx, int x, int y, int w, int h, int tint) {
+        if (tint == 0) return;
+        if (seasonWash == null || x != washX || y != washY || tint != washTint) {
+            seasonWash = ProceduralRenderer.bakeRoundedRect(x, y, w, h, 7, tint);
+            washX = x;
+            washY = y;
+            washTint = tint;
+            bakes++;
+        }
+        replay(ctx, seasonWash);
+    }
+
+    void hoverGlow(DrawContext ctx, int cellX, int cellY) {
+        hoverGlow.render(ctx, cellX, cellY);
+        replays++;
+    }
+
+    void wateredTint(DrawContext ctx, int cellX, int cellY) {
+        wateredTint.render(ctx, cellX, cellY);
+        replays++;
+    }
+
+    /** @param gridDivider false in shop mode, where the grid's bottom divider is hidden */
+    void dividers(DrawContext ctx, boolean gridDivider) {
+        if (divHeader == null) return;
+        replay(ctx, divHeader);
+        if (gridDivider) replay(ctx, divGrid);
+        replay(ctx, divFooter);
+    }
+
+    void shopBackdrop(DrawContext ctx) {
+        if (shopBackdrop != null) replay(ctx, shopBackdrop);
+    }
+
+    private static void replay(DrawContext ctx, CachedShape shape) {
+        shape.render(ctx);
+        replays++;
+    }
+
+    /**
+     * The F6 overlay line: rebakes and replays per frame over the last
+     * second. Call once per frame while the overlay is shown.
+     */
+    static String statsLine() {
+        long now = System.nanoTime();
+        frames++;
+        if (now - windowStart >= 1_000_000_000L) {
+            statsLine = String.format("panel layer: %d rebakes/s  %.1f cached shapes/frame",
+                    bakes - lastBakes, (replays - lastReplays) / (double) frames);
+            lastBakes = bakes;
+            lastReplays = replays;
+            frames = 0;
+            windowStart = now;
+        }
+        return statsLine;
+    }
+}
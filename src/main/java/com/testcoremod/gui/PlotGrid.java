@@ -0,0 +1,55 @@
+package com.testcoremod.gui;
+
+/**
+ * PlotGrid — the plot cells' layout as arithmetic: a mouse position maps
+ * straight to the grid slot under it in O(1), without testing each cell.
+ *
+ * Cells are {@code cellW × cellH}, {@code gap} apart, in {@code cols}
+ * columns from the top-left cell at ({@link #x}, {@link #y}). Bounds are
+ * half-open exactly like {@code UIComponent.isHovered}, and the gaps
+ * between cells belong to no slot. Click handling, the hover glow and the
+ * cells' own {@code isHovered} (which the tooltip walk calls) all go
+ * through {@link #slotAt}, so they always agree on which cell is hit.
+ */
+final class PlotGrid {
+
+    final int cols, rows, cellW, cellH, gap;
+    private int x, y;
+
+    PlotGrid(int cols, int rows, int cellW, int cellH, int gap) {
+        this.cols  = cols;
+        this.rows  = rows;
+        this.cellW = cellW;
+        this.cellH = cellH;
+        this.gap   = gap;
+    }
+
+    /** Position of the top-left cell; set from {@code init()}. */
+    void setOrigin(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    int cellX(int slot) {
+        return x + (slot % cols) * (cellW + gap);
+    }
+
+    int cellY(int slot) {
+        return y + (slot / cols) * (cellH + gap);
+    }
+
+    /** Slot under ({@code mx}, {@code my}), or -1 outside the grid or in a gap. */
+    int slotAt(int mx, int my) {
+        int dx = mx - x, dy = my - y;
+        if (dx < 0 || dy < 0) return -1;
+        int col = dx / (cellW + gap), row = dy / (cellH + gap);
+        if (col >= cols || row >= rows) return -1;
+        if (dx - col * (cellW + gap) >= cellW || dy - row * (cellH + gap) >= cellH) return -1;
+        return row * cols + col;
+    }
+
+    /** Truncates like {@code UIComponent.isHovered(double, double)}. */
+    int slotAt(double mx, double my) {
+        return slotAt((int) mx, (int) my);
+    }
+}
@@ -0,0 +1,81 @@
+package com.testcoremod.gui;
+
+/**
+ * PlotTextCache — shared strings for plot labels and tooltips.
+ *
+ * What a plot cell shows depends only on (crop, whole percent, watered,
+ * ready), plus the plot number in the tooltip title. Each string is built
+ * the first time that combination is shown and reused afterwards, so a
+ * hundred plots at 42% share one "42%" label instead of re-concatenating it
+ * every tick.
+ *
+ * {@link #labelKey} and {@link #tooltipKey} pack the visible content into
+ * a number; the screen remembers the last key per grid cell and skips the
+ * widget update entirely when it hasn't changed.
+ */
+final class PlotTextCache {
+
+    static final int  NO_LABEL   = -1;
+    static final long NO_TOOLTIP = -1L;
+
+    static final String EMPTY_LABEL  = "• Empty";
+    static final String EMPTY_HINT   = "Click to select, then plant!";
+    static final String READY_LINE   = "✔ Ready to harvest!";
+    static final String WATERED_LINE = "☂ Watered (2× growth)";
+    static final String GROWING_LINE = "Growing...";
+
+    private final String[]   cropSymbols, cropNames;
+    private final String[][] label;    // [crop][percent], built on first use
+    private final String[]   growth;   // [percent]
+    private final String[]   reward;   // [crop]
+
+    PlotTextCache(String[] cropSymbols, String[] cropNames, int[] rewardMin, int[] rewardMax) {
+        this.cropSymbols = cropSymbols;
+        this.cropNames   = cropNames;
+        this.label  = new String[cropNames.length][101];
+        this.growth = new String[101];
+        this.reward = new String[cropNames.length];
+        for (int c = 0; c < reward.length; c++) {
+            reward[c] = "Reward: " + rewardMin[c] + "-" + rewardMax[c] + "g";
+        }
+    }
+
+    /** Whole percent shown for {@code growth}, 0..100. */
+    static int percent(float growth) {
+        return Math.max(0, Math.min(100, (int) (growth * 100)));
+    }
+
+    /** Key of everything the crop label shows; -1 is never returned. */
+    static int labelKey(int crop, int pct, boolean ready) {
+        if (crop < 0) return 0;
+        return ((crop + 1) << 8 | pct) << 1 | (ready ? 1 : 0);
+    }
+
+    /** Key of everything plot {@code plot}'s tooltip shows. */
+    static long tooltipKey(int plot, int crop, int pct, boolean watered, boolean ready) {
+        return (long) plot << 32 | (long) labelKey(crop, pct, ready) << 1 | (watered ? 1 : 0);
+    }
+
+    /** "◆ Carrot 42%" */
+    String label(int crop, int pct) {
+        String s = label[crop][pct];
+        if (s == null) label[crop][pct] = s = cropSymbols[crop] + " " + cropNames[crop] + " " + pct + "%";
+        return s;
+    }
+
+    /** "Growth: 42%" */
+    String growthLine(int pct) {
+        String s = growth[pct];
+        if (s == null) growth[pct] = s = "Growth: " + pct + "%";
+        return s;
+    }
+
+    /** "Reward: 8-16g" */
+    String rewardLine(int crop) {
+        return reward[crop];
+    }
+
+    static String statusLine(boolean watered, boolean ready) {
+        return ready ? READY_LINE : watered ? WATERED_LINE : GROWING_LINE;
+    }
+}
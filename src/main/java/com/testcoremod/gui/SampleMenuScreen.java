@@ -7,6 +7,20 @@ import com.pocketuicore.data.ObservableState;
 import com.pocketuicore.render.ProceduralRenderer;
 import com.pocketuicore.screen.ScreenShakeHelper;
 import com.pocketuicore.sound.UISoundManager;
+import com.testcoremod.SampleModClient;
+import com.testcoremod.farm.Farm;
+import com.testcoremod.farm.FarmBatch;
+import com.testcoremod.farm.FarmData;
+import com.testcoremod.farm.FarmJournal;
+import com.testcoremod.farm.FarmRecording;
+import com.testcoremod.farm.FarmRules;
+import com.testcoremod.farm.FarmScheduler;
+import com.testcoremod.farm.FarmSimulation;
+import com.testcoremod.farm.GrowthKernels;
+import com.testcoremod.farm.PlotStore;
+import com.testcoremod.farm.SaveService;
+import com.testcoremod.metrics.FarmEvents;
+import com.testcoremod.metrics.Metrics;
 
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Click;
@@ -20,8 +34,8 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.file.*;
-import java.util.Random;
 
 /**
  * Virtual Farm v5 — fully interactive crop-farming demo for PocketUICore v1.8.0.
@@ -88,17 +102,14 @@ public class SampleMenuScreen extends Screen {
     // ═══════════════════════════════════════════════════════════════════
     //  CROP DATA — varied economics for strategic choice
     // ═══════════════════════════════════════════════════════════════════
-    private static final String[] CROP_NAMES   = {"Wheat", "Carrot", "Potato", "Beetroot", "Melon", "Pumpkin"};
+    private static final int      CROP_COUNT   = FarmRules.CROP_COUNT;
+    private static final String[] CROP_NAMES   = FarmRules.CROP_NAMES;
     private static final String[] CROP_SYMBOLS = {"\u2592", "\u25C6", "\u25CF", "\u2666", "\u25A0", "\u25B2"};
     private static final int[]    CROP_COLORS  = {0xFFDBA53A, 0xFFE8832A, 0xFFD4A760, 0xFF9B2335, 0xFF5DAE5C, 0xFFD9781A};
-    private static final float[]  GROW_SPEEDS  = {0.10f, 0.08f, 0.07f, 0.05f, 0.04f, 0.03f};
-    private static final int[]    CROP_COSTS   = {3, 4, 4, 6, 8, 10};
-    private static final int[]    REWARD_MIN   = {6, 8, 8, 12, 16, 20};
-    private static final int[]    REWARD_MAX   = {14, 16, 18, 22, 28, 35};
-
-    // Season durations in ticks (20 ticks = 1 second)
-    //   Spring=40s  Summer=40s  Autumn=30s  Winter=20s (kept short by request)
-    private static final int[] SEASON_TICKS = {800, 800, 600, 400};
+    private static final float[]  GROW_SPEEDS  = FarmRules.GROW_SPEEDS;
+    private static final int[]    CROP_COSTS   = FarmRules.CROP_COSTS;
+    private static final int[]    REWARD_MIN   = FarmRules.REWARD_MIN;
+    private static final int[]    REWARD_MAX   = FarmRules.REWARD_MAX;
 
     // ═══════════════════════════════════════════════════════════════════
     //  UPGRADE & ECONOMY SYSTEM — procedural scaling costs
@@ -128,7 +139,8 @@ public class SampleMenuScreen extends Screen {
     // ═══════════════════════════════════════════════════════════════════
     private static final int PW = 340, PH = 290, PAD = 10;
     private static final int IW = PW - 2 * PAD;   // 320
-    private static final int NUM_PLOTS = 6;
+    private static final int GRID_COLS = 3, GRID_ROWS = 2;
+    private static final int GRID_CELLS = GRID_COLS * GRID_ROWS;   // plots per grid page
     private static final int CELL_W = 102, CELL_H = 52, CELL_GAP = 4;
 
     // Y offsets relative to panel top
@@ -147,218 +159,31 @@ public class SampleMenuScreen extends Screen {
 
     // ═══════════════════════════════════════════════════════════════════
     //  PERSISTENT FARM STATE (static — survives screen close/reopen)
-    //  Also saved to disk as farm_save.json for cross-session persistence
+    //  Every loaded farm lives in the FarmScheduler; the screen shows one
     // ═══════════════════════════════════════════════════════════════════
-    private static final class FarmData {
-        float[]   cropGrowth  = new float[NUM_PLOTS];
-        int[]     cropType    = new int[NUM_PLOTS];   // -1 = empty
-        boolean[] watered     = new boolean[NUM_PLOTS];
-        int       gold        = 50;
-        int       harvests    = 0;
-        int       seasonIndex = 0;
-        int       seasonTicks = 0;
-        int       selectedPlot = 0;
-        long      lastClosedTime = 0;   // System.currentTimeMillis() at close
-        boolean   autoWater  = false;  // Upgrade: auto-water on plant
-        boolean   goldMagnet = false;  // Upgrade: +50% harvest rewards
-        String    farmName   = "My Farm";  // Legacy field (kept for save compat)
-        float     speedMult  = 1.0f;       // Growth speed multiplier (internal, no UI)
-
-        // v6: Crop bank (harvested crops awaiting export)
-        int[]     cropBank   = new int[NUM_PLOTS];  // one slot per crop type
-        // v6: Procedural upgrades
-        int       soilLevel     = 0;   // +20% growth speed per level (max 5)
-        int       qualityLevel  = 0;   // +20% harvest reward per level (max 5)
-        int       luckyLevel    = 0;   // +10% double-harvest chance per level (max 5)
-        // v6: Prestige system
-        int       prestigeLevel = 0;   // resets farm for permanent bonuses
-        // v6: Lifetime stats
-        int       totalGoldEarned   = 0;
-        int       totalCropsExported = 0;
-
-        FarmData() {
-            for (int i = 0; i < NUM_PLOTS; i++) cropType[i] = -1;
-        }
-
-        /** Save to JSON manually (no Gson dependency). */
-        void saveToFile() {
-            try {
-                Path dir = MinecraftClient.getInstance().runDirectory.toPath();
-                Path file = dir.resolve("farm_save.json");
-                StringBuilder sb = new StringBuilder();
-                sb.append("{\n");
-                sb.append("  \"gold\": ").append(gold).append(",\n");
-                sb.append("  \"harvests\": ").append(harvests).append(",\n");
-                sb.append("  \"seasonIndex\": ").append(seasonIndex).append(",\n");
-                sb.append("  \"seasonTicks\": ").append(seasonTicks).append(",\n");
-                sb.append("  \"selectedPlot\": ").append(selectedPlot).append(",\n");
-                sb.append("  \"lastClosedTime\": ").append(lastClosedTime).append(",\n");
-                sb.append("  \"autoWater\": ").append(autoWater).append(",\n");
-                sb.append("  \"goldMagnet\": ").append(goldMagnet).append(",\n");
-                sb.append("  \"farmName\": \"").append(farmName.replace("\"", "\\\"")).append("\",\n");
-                sb.append("  \"speedMult\": ").append(speedMult).append(",\n");
-                sb.append("  \"soilLevel\": ").append(soilLevel).append(",\n");
-                sb.append("  \"qualityLevel\": ").append(qualityLevel).append(",\n");
-                sb.append("  \"luckyLevel\": ").append(luckyLevel).append(",\n");
-                sb.append("  \"prestigeLevel\": ").append(prestigeLevel).append(",\n");
-                sb.append("  \"totalGoldEarned\": ").append(totalGoldEarned).append(",\n");
-                sb.append("  \"totalCropsExported\": ").append(totalCropsExported).append(",\n");
-                sb.append("  \"cropBank\": [").append(arrToStr(cropBank)).append("],\n");
-                sb.append("  \"cropType\": [").append(arrToStr(cropType)).append("],\n");
-                sb.append("  \"cropGrowth\": [").append(fArrToStr(cropGrowth)).append("],\n");
-                sb.append("  \"watered\": [").append(bArrToStr(watered)).append("]\n");
-                sb.append("}");
-                Files.writeString(file, sb.toString());
-            } catch (Exception e) {
-                System.err.println("[TestCoreMod] Failed to save farm: " + e.getMessage());
-            }
-        }
-
-        /** Load from JSON. Returns true if a save was found and loaded. */
-        boolean loadFromFile() {
-            try {
-                Path dir = MinecraftClient.getInstance().runDirectory.toPath();
-                Path file = dir.resolve("farm_save.json");
-                if (!Files.exists(file)) return false;
-                String json = Files.readString(file);
-                gold        = readInt(json, "gold", 50);
-                harvests    = readInt(json, "harvests", 0);
-                seasonIndex = readInt(json, "seasonIndex", 0);
-                seasonTicks = readInt(json, "seasonTicks", 0);
-                selectedPlot = readInt(json, "selectedPlot", 0);
-                lastClosedTime = readLong(json, "lastClosedTime", 0);
-                autoWater  = readBool(json, "autoWater", false);
-                goldMagnet = readBool(json, "goldMagnet", false);
-                farmName   = readString(json, "farmName", "My Farm");
-                speedMult  = readFloat(json, "speedMult", 1.0f);
-                soilLevel     = readInt(json, "soilLevel", 0);
-                qualityLevel  = readInt(json, "qualityLevel", 0);
-                luckyLevel    = readInt(json, "luckyLevel", 0);
-                prestigeLevel = readInt(json, "prestigeLevel", 0);
-                totalGoldEarned   = readInt(json, "totalGoldEarned", 0);
-                totalCropsExported = readInt(json, "totalCropsExported", 0);
-                readIntArray(json, "cropBank", cropBank);
-                readIntArray(json, "cropType", cropType);
-                readFloatArray(json, "cropGrowth", cropGrowth);
-                readBoolArray(json, "watered", watered);
-                return true;
-            } catch (Exception e) {
-                System.err.println("[TestCoreMod] Failed to load farm: " + e.getMessage());
-                return false;
-            }
-        }
-
-        // ── Tiny JSON helpers (no library needed) ────────────────────
-        private static String arrToStr(int[] a) {
-            StringBuilder s = new StringBuilder();
-            for (int i = 0; i < a.length; i++) { if (i > 0) s.append(","); s.append(a[i]); }
-            return s.toString();
-        }
-        private static String fArrToStr(float[] a) {
-            StringBuilder s = new StringBuilder();
-            for (int i = 0; i < a.length; i++) { if (i > 0) s.append(","); s.append(a[i]); }
-            return s.toString();
-        }
-        private static String bArrToStr(boolean[] a) {
-            StringBuilder s = new StringBuilder();
-            for (int i = 0; i < a.length; i++) { if (i > 0) s.append(","); s.append(a[i]); }
-            return s.toString();
-        }
-        private static int readInt(String json, String key, int def) {
-            String pat = "\"" + key + "\": ";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return def;
-            int start = idx + pat.length();
-            int end = start;
-            while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) end++;
-            try { return Integer.parseInt(json.substring(start, end)); } catch (Exception e) { return def; }
-        }
-        private static long readLong(String json, String key, long def) {
-            String pat = "\"" + key + "\": ";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return def;
-            int start = idx + pat.length();
-            int end = start;
-            while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) end++;
-            try { return Long.parseLong(json.substring(start, end)); } catch (Exception e) { return def; }
-        }
-        private static boolean readBool(String json, String key, boolean def) {
-            String pat = "\"" + key + "\": ";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return def;
-            int start = idx + pat.length();
-            return json.regionMatches(start, "true", 0, 4);
-        }
-        private static String readString(String json, String key, String def) {
-            String pat = "\"" + key + "\": \"";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return def;
-            int start = idx + pat.length();
-            int end = json.indexOf('"', start);
-            if (end < 0) return def;
-            return json.substring(start, end).replace("\\\"", "\"");
-        }
-        private static float readFloat(String json, String key, float def) {
-            String pat = "\"" + key + "\": ";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return def;
-            int start = idx + pat.length();
-            int end = start;
-            while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '.' || json.charAt(end) == '-')) end++;
-            try { return Float.parseFloat(json.substring(start, end)); } catch (Exception e) { return def; }
-        }
-        private static void readIntArray(String json, String key, int[] out) {
-            String pat = "\"" + key + "\": [";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return;
-            int start = idx + pat.length();
-            int end = json.indexOf(']', start);
-            if (end < 0) return;
-            String[] parts = json.substring(start, end).split(",");
-            for (int i = 0; i < Math.min(parts.length, out.length); i++) {
-                try { out[i] = Integer.parseInt(parts[i].trim()); } catch (Exception ignored) {}
-            }
-        }
-        private static void readFloatArray(String json, String key, float[] out) {
-            String pat = "\"" + key + "\": [";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return;
-            int start = idx + pat.length();
-            int end = json.indexOf(']', start);
-            if (end < 0) return;
-            String[] parts = json.substring(start, end).split(",");
-            for (int i = 0; i < Math.min(parts.length, out.length); i++) {
-                try { out[i] = Float.parseFloat(parts[i].trim()); } catch (Exception ignored) {}
-            }
-        }
-        private static void readBoolArray(String json, String key, boolean[] out) {
-            String pat = "\"" + key + "\": [";
-            int idx = json.indexOf(pat);
-            if (idx < 0) return;
-            int start = idx + pat.length();
-            int end = json.indexOf(']', start);
-            if (end < 0) return;
-            String[] parts = json.substring(start, end).split(",");
-            for (int i = 0; i < Math.min(parts.length, out.length); i++) {
-                out[i] = "true".equals(parts[i].trim());
-            }
-        }
-    }
-
-    /** Singleton farm data — lives as long as the JVM. Also saved to disk. */
+    /** All loaded farms, stepped in parallel by {@link #tickOffscreen()}. */
+    private static FarmScheduler farms;
+    /** {@link FarmScheduler#openAll()} has run ({@link #resetFarm()} may create the scheduler first). */
+    private static boolean farmsOpened;
+    /** Name of the farm the screen shows (/uisample farm <name>). */
+    private static String activeFarmName = FarmScheduler.DEFAULT_FARM;
+    /** The farm the screen shows — lives as long as the JVM. Also saved to disk. */
+    private static Farm farm;
+    /** {@link #farm}'s parts, for brevity. */
     private static FarmData farmData;
-    /** Offscreen tick counter — for water evaporation while UI is closed. */
-    private static int offscreenTicks = 0;
+    /** Headless engine advancing {@link #farmData} (shared by screen + offscreen ticks). */
+    private static FarmSimulation simulation;
+    /** Append-only action log between snapshots (crash recovery). */
+    private static FarmJournal journal;
 
     // ── Instance references into the static data ─────────────────────
-    private float[]   cropGrowth;
-    private int[]     cropType;
-    private boolean[] watered;
+    private PlotStore plots;
     private int tickCounter  = 0;
     private boolean cropPickerMode = false;
     private boolean shopMode = false;
     private int shopPage = 0;   // v6: shop page index (0..2)
     private int selectedPlot;
+    private int plotPage = 0;   // grid page shown (GRID_CELLS plots per page)
     private long lastPlotClickTime = 0;
     private int  lastClickedPlot = -1;
 
@@ -369,9 +194,6 @@ public class SampleMenuScreen extends Screen {
     // v7: Shop hover tracking for interactive descriptions
     private int shopHoveredItem = -1;  // 0..2 = item on current page, -1 = none
 
-    // v7: Last crop type per plot (for double-click auto-replant)
-    private final int[] lastCropType = new int[NUM_PLOTS];
-
     // Upgrade costs
     private static final int FERTILIZER_COST  = 20;
     private static final int AUTO_WATER_COST  = 60;
@@ -381,22 +203,78 @@ public class SampleMenuScreen extends Screen {
     private ObservableState<Integer> goldState;
     private ObservableState<String>  seasonState;
     private ObservableState<Integer> harvestCount;
+    private final UpdateScope updates = new UpdateScope();  // coalesces the three states above
 
     // ── v1.8.0: ScreenShakeHelper (replaces manual AnimationTicker shake) ──
     private ScreenShakeHelper shakeHelper;
+    // Screen + per-plot animations, addressed by int handle (see AnimationTable)
+    private AnimationTable anims;
+
+    private static final String[] SEASONS = FarmRules.SEASON_NAMES;
+    // Per-season colours, indexed by seasonIndex (render() reads these instead of switching)
+    private static final int[] SEASON_COLORS = { ACCENT_GREEN, ACCENT_GOLD, 0xFFD4763B, ACCENT_BLUE };
+    private static final int[] SEASON_TINTS  = {
+            0x0840C040,  // Spring: faint green
+            0x0AFFD700,  // Summer: warm gold
+            0x08FF8C00,  // Autumn: soft orange
+            0x0A6EC6FF,  // Winter: cool blue
+    };
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  RENDER CACHES — render() allocates nothing of its own per frame
+    // ═══════════════════════════════════════════════════════════════════
+    private static final String[] SHOP_HEADERS = {
+            "\u2697 Consumables", "\u2B06 Permanent Upgrades", "\u2728 Advanced" };
+    private static final String   SHOP_CLICK_HINT = "  \u25B6 Click to buy!";
+    private static final String[] GUIDE_TIPS = {
+            "\u2618 P=Plant  W=Water  H=Harvest  S=Shop",
+            "\u2B50 Shift+W=Water All  Shift+H=Harvest All",
+            "\u21BB Double-click plot = harvest + replant!",
+            "\u2B06 Shop: click items or press 1/2/3 to buy",
+            "\u2605 Prestige at " + PRESTIGE_HARVEST_REQ + " harvests (+15%)",
+    };
 
-    private final String[] SEASONS = {"Spring", "Summer", "Autumn", "Winter"};
-    private int seasonIndex;
-    private int seasonTicks;
+    // Shop description lines — rebuilt only when prices, ownership or the bank change
+    private final String[]  shopTitle       = new String[SHOP_PAGES * 3];  // "[n] name (cost)"
+    private final String[]  shopDesc        = new String[SHOP_PAGES * 3];
+    private final String[]  shopStatus      = new String[SHOP_PAGES * 3];
+    private final String[]  shopStatusHover = new String[SHOP_PAGES * 3];  // status + click hint
+    private final boolean[] shopOwned       = new boolean[SHOP_PAGES * 3];
+    private long shopLinesKey = -1;
+
+    // Stats tab lines — rebuilt only when one of the shown values changes
+    private final int[] statsKey = new int[10];
+    private String statsGold, statsHarvests, statsEarned, statsExported,
+                   statsPrestige, statsSeason, statsUpgrades;
+
+    // Plot label/tooltip text — shared strings, widgets touched only when content changes
+    private static final PlotTextCache PLOT_TEXT =
+            new PlotTextCache(CROP_SYMBOLS, CROP_NAMES, REWARD_MIN, REWARD_MAX);
+    private final int[]    cellLabelKey   = new int[GRID_CELLS];
+    private final long[]   cellTooltipKey = new long[GRID_CELLS];
+    private final long[]   cellTitleKey   = new long[GRID_CELLS];
+    private final String[] cellTitle      = new String[GRID_CELLS];  // "Plot N: Crop"
+    private long selectedInfoKey  = -1;   // content updateSelectedInfo() last showed
+    private int  selectedInfoPage = -1;
+    private final int[] batchBefore = new int[GRID_CELLS];  // cellState per slot before a bulk action
+
+    // Debug overlay (F6): live latency/allocation stats from Metrics
+    private static boolean debugOverlay = false;
 
     // ═══════════════════════════════════════════════════════════════════
     //  COMPONENTS
     // ═══════════════════════════════════════════════════════════════════
     private DarkPanel root;
-    private final DarkPanel[]      plotCells     = new DarkPanel[NUM_PLOTS];
-    private final TextLabel[]      plotNumLabels = new TextLabel[NUM_PLOTS];
-    private final TextLabel[]      plotLabels    = new TextLabel[NUM_PLOTS];
-    private final PercentageBar[]  growthBars    = new PercentageBar[NUM_PLOTS];
+    /** Screen size {@link #root} was laid out for; a reopen at the same size reuses it. */
+    private int builtWidth, builtHeight;
+    /** v7: Retained season wash, shop backdrop and cell tints (panels cache via CachedPanel). */
+    private final PanelLayer panelLayer = new PanelLayer(CELL_W, CELL_H, 5);
+    // Plot grid widgets — one per visible cell, rebound as the page changes
+    private final DarkPanel[]      plotCells     = new DarkPanel[GRID_CELLS];
+    private final TextLabel[]      plotNumLabels = new TextLabel[GRID_CELLS];
+    private final TextLabel[]      plotLabels    = new TextLabel[GRID_CELLS];
+    private final PercentageBar[]  growthBars    = new PercentageBar[GRID_CELLS];
+    private HoverButton gridPrevBtn, gridNextBtn;   // grid paging (only with > 6 plots)
     private TextLabel goldLabel, seasonLabel, harvestLabel, selectedInfo;
     // HUD overlay removed per user feedback (season/gold shown in panel instead)
 
@@ -407,7 +285,7 @@ public class SampleMenuScreen extends Screen {
     // Action buttons (normal mode)
     private HoverButton plantBtn, waterBtn, harvestBtn, shopBtn, closeBtn;
     // Crop picker buttons (picker mode)
-    private final HoverButton[] cropPickBtns = new HoverButton[NUM_PLOTS];
+    private final HoverButton[] cropPickBtns = new HoverButton[CROP_COUNT];
     private HoverButton cancelPickBtn;
     // Shop buttons (shop mode)
     private HoverButton fertShopBtn, autoWaterShopBtn, goldMagnetShopBtn, cancelShopBtn;
@@ -419,12 +297,18 @@ public class SampleMenuScreen extends Screen {
     private TextLabel   shopPageLabel;             // "Page 1/3"
 
     // ═══════════════════════════════════════════════════════════════════
-    //  ACTIVITY LOG (5 entries — in-GUI feedback)
+    //  ACTIVITY LOG (ring buffer, 5 rows shown — scroll the Log tab for more)
     // ═══════════════════════════════════════════════════════════════════
-    private static final int LOG_MAX = 5;
-    private final String[] logText  = new String[LOG_MAX];
-    private final int[]    logColor = new int[LOG_MAX];
-    private int logCount = 0;
+    private static final int    LOG_ROWS     = 5;
+    private static final int    LOG_ROW_H    = 10;
+    private static final String LOG_FILE     = "virtualfarm_log.txt";
+    /** Session-wide history (survives screen close/reopen); -Dvirtualfarm.logCapacity. */
+    private static final ActivityLog activityLog =
+            new ActivityLog(Integer.getInteger("virtualfarm.logCapacity", 1000));
+    private static boolean logSpillChecked;   // -Dvirtualfarm.logFile applied once
+    private int logScroll = 0;                // rows scrolled back from the newest
+    private int    logScrollShown = -1;       // logScroll the label below was built for
+    private String logScrollLabel = "";
 
     // ═══════════════════════════════════════════════════════════════════
     //  GOLD POPUP — now uses v1.8.0 FloatingText toast system
@@ -433,52 +317,88 @@ public class SampleMenuScreen extends Screen {
     // ═══════════════════════════════════════════════════════════════════
     //  STORED CELL POSITIONS (for render-time hover/glow effects)
     // ═══════════════════════════════════════════════════════════════════
-    private final int[] cellXPos = new int[NUM_PLOTS];
-    private final int[] cellYPos = new int[NUM_PLOTS];
+    private final int[] cellXPos = new int[GRID_CELLS];
+    private final int[] cellYPos = new int[GRID_CELLS];
+    /** Mouse → grid slot by arithmetic; shared by clicks, hover glow and cell tooltips. */
+    private final PlotGrid plotGrid = new PlotGrid(GRID_COLS, GRID_ROWS, CELL_W, CELL_H, CELL_GAP);
 
     // Panel origin (computed in init)
     private int px, py;
-    private final Random rng = new Random();
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  WARM SCREEN — the last screen is kept and reopened, tree and all
+    // ═══════════════════════════════════════════════════════════════════
+    /** Open → first frame budget: one frame at 60 fps. */
+    private static final long OPEN_BUDGET_NANOS = 16_666_667L;
+    /** The most recently built screen; {@link #open()} reuses it while it shows the same farm. */
+    private static SampleMenuScreen warm;
+    /** Last open → first frame, -1 before the first; formatted only for /uisample stats. */
+    private static long lastOpenNanos = -1;
+    private static boolean lastOpenWarm;
+    /** Slowest open logged so far; only an open slower than this is logged again. */
+    private static long worstOpenLogged = OPEN_BUDGET_NANOS;
+    /** The farm this instance's tree was built for. */
+    private Farm shownFarm;
+    private long openStart;     // System.nanoTime() at open, 0 once the first frame is drawn
+    private boolean warmOpen;   // this open reused the tree
+
+    /**
+     * The farm screen for the G key and /uisample. Reuses the previous
+     * screen's component tree when it still shows the same farm (rebinding
+     * it to the current {@link FarmData} in {@code init()}); otherwise
+     * builds a new one.
+     */
+    public static SampleMenuScreen open() {
+        long start = System.nanoTime();  // cold and warm opens timed from here, farm load included
+        ensureFarmLoaded();
+        SampleMenuScreen s = warm;
+        if (s != null && s.shownFarm == farm) {
+            s.reopen(start);
+            return s;
+        }
+        return new SampleMenuScreen(start);
+    }
 
     // ═══════════════════════════════════════════════════════════════════
     //  CONSTRUCTOR
     // ═══════════════════════════════════════════════════════════════════
     public SampleMenuScreen() {
+        this(System.nanoTime());
+    }
+
+    private SampleMenuScreen(long openStart) {
         super(Text.literal("Virtual Farm"));
+        this.openStart = openStart;  // read by the first render()
 
         // Load persistent state: static singleton → file → fresh defaults
-        if (farmData == null) {
-            farmData = new FarmData();
-            if (!farmData.loadFromFile()) {
-                System.out.println("[TestCoreMod] No save found, starting fresh farm.");
-            } else {
-                System.out.println("[TestCoreMod] Farm loaded from disk!");
-            }
-        }
+        ensureFarmLoaded();
+        shownFarm = farm;
+        warm = this;
+        bindFarm();
 
-        // Catch up offline growth before wiring instance
-        catchUpOfflineGrowth();
-
-        // Point instance fields at static data
-        cropGrowth   = farmData.cropGrowth;
-        cropType     = farmData.cropType;
-        watered      = farmData.watered;
-        selectedPlot = farmData.selectedPlot;
-        seasonIndex  = farmData.seasonIndex;
-        seasonTicks  = farmData.seasonTicks;
+        // v1.8.0: ScreenShakeHelper instance (replaces manual AnimationTicker shake)
+        shakeHelper = new ScreenShakeHelper();
+        anims = new AnimationTable(GRID_CELLS);
+    }
 
-        // v7: Initialize lastCropType from current state (for auto-replant)
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            lastCropType[i] = cropType[i];  // remember what's planted now
-        }
+    /** Warm open: same instance, fresh state; {@code init()} then rebinds the tree. */
+    private void reopen(long start) {
+        openStart = start;
+        warmOpen  = true;
+        bindFarm();
+        shakeHelper = new ScreenShakeHelper();
+    }
 
-        // Re-create ObservableState from persisted values
-        goldState    = ObservableState.of(farmData.gold);
-        seasonState  = ObservableState.of(SEASONS[seasonIndex]);
-        harvestCount = ObservableState.of(farmData.harvests);
+    /** Point instance fields at the farm's current data. */
+    private void bindFarm() {
+        plots        = farmData.plots;
+        selectedPlot = Math.min(farmData.selectedPlot, Math.max(0, plots.size() - 1));
+        plotPage     = selectedPlot / GRID_CELLS;
 
-        // v1.8.0: ScreenShakeHelper instance (replaces manual AnimationTicker shake)
-        shakeHelper = new ScreenShakeHelper();
+        // Re-create ObservableState from persisted values (listeners fire once per tick/input event)
+        goldState    = updates.state(farmData.gold);
+        seasonState  = updates.state(SEASONS[farmData.seasonIndex]);
+        harvestCount = updates.state(farmData.harvests);
     }
 
     // ═══════════════════════════════════════════════════════════════════
@@ -488,32 +408,65 @@ public class SampleMenuScreen extends Screen {
     protected void init() {
         super.init();
 
-        px = (this.width  - PW) / 2;
-        py = (this.height - PH) / 2;
-        int cx = px + PAD;   // content-area left edge
-
-        AnimationTicker anim = AnimationTicker.getInstance();
         FocusManager fm = FocusManager.getInstance();
         fm.clear();
         fm.clearFocusChangeListeners();
 
+        // Reopened at the same size: the tree from last time is still laid out
+        if (root != null && this.width == builtWidth && this.height == builtHeight) {
+            rebindTree();
+        } else {
+            buildTree();
+            builtWidth  = this.width;
+            builtHeight = this.height;
+        }
+        bindStates();
+        registerFocus(fm);
+
+        // ── Entrance animation ───────────────────────────────────────
+        anims.start(AnimationTable.FARM_OPEN, 400, EasingType.EASE_OUT_BACK);
+
+        // ── Welcome / resume log ─────────────────────────────────────
+        if (farmData.harvests > 0 || farmData.gold != 50) {
+            addLog("\u2618 Welcome back! " + goldState.get() + "g, "
+                    + harvestCount.get() + " harvests", ACCENT_GREEN);
+        } else {
+            addLog("\u2618 Welcome to Virtual Farm!", ACCENT_GREEN);
+            addLog("Click a plot, then choose a crop!", TEXT_MUTED);
+        }
+
+        // ── Restore plot visuals from persisted state ─────────────────
+        showGridPage(plotPage);
+        updateSelectedInfo();
+    }
+
+    /** Build the whole component tree for the current screen size. */
+    private void buildTree() {
+        px = (this.width  - PW) / 2;
+        py = (this.height - PH) / 2;
+        int cx = px + PAD;   // content-area left edge
+
         // ── Root panel ───────────────────────────────────────────────
-        root = new DarkPanel(px, py, PW, PH);
+        root = new CachedPanel(px, py, PW, PH);
         root.setBackgroundColor(BG);
         root.setBorderColor(BORDER);
         root.setCornerRadius(8);
         root.setDrawBorder(true);
         root.setDrawShadow(true);
+        panelLayer.layout(cx + 2, py + GRID1_DY, IW - 4, DIV2_DY - GRID1_DY,
+                cx, IW, py + DIV1_DY, py + DIV2_DY, py + DIV3_DY, DIVIDER_COL);
 
         // ── Title (v1.8.0: using Text constructor) ─────────────────────
-        String titleStr = "\u2618 Virtual Farm \u2618";
+        String titleStr = farm.id.equals(FarmScheduler.idOf(FarmScheduler.DEFAULT_FARM))
+                ? "\u2618 Virtual Farm \u2618"
+                : "\u2618 " + farmData.farmName + " \u2618";
         if (farmData.prestigeLevel > 0) titleStr += " \u2605\u00D7" + farmData.prestigeLevel;
         root.addChild(new TextLabel(cx, py + TITLE_DY, IW, 14,
                 Text.literal(titleStr).formatted(Formatting.GREEN),
                 ACCENT_GREEN, TextLabel.Align.CENTER, 1.0f));
 
         // ── Stats/balance background bar ─────────────────────────────
-        DarkPanel statsBg = new DarkPanel(cx, py + BAL_BG_DY, IW, 18);
+        DarkPanel statsBg = new CachedPanel(cx, py + BAL_BG_DY, IW, 18);
         statsBg.setBackgroundColor(STATS_BG);
         statsBg.setCornerRadius(4);
         statsBg.setDrawBorder(true);
@@ -526,45 +479,31 @@ public class SampleMenuScreen extends Screen {
         goldLabel = new TextLabel(cx + 6, py + STATS_DY, third - 8, 12,
                 "\u2B50 " + goldState.get() + " Gold", ACCENT_GOLD, TextLabel.Align.LEFT, 0.9f);
         seasonLabel = new TextLabel(cx + third, py + STATS_DY, third, 12,
-                seasonSymbol(SEASONS[seasonIndex]) + " " + SEASONS[seasonIndex],
-                seasonColor(SEASONS[seasonIndex]), TextLabel.Align.CENTER, 0.8f);
+                seasonSymbol(SEASONS[farmData.seasonIndex]) + " " + SEASONS[farmData.seasonIndex],
+                seasonColor(SEASONS[farmData.seasonIndex]), TextLabel.Align.CENTER, 0.8f);
         harvestLabel = new TextLabel(cx + third * 2, py + STATS_DY, third - 6, 12,
                 "\u2714 " + harvestCount.get() + " harvested", TEXT_MUTED, TextLabel.Align.RIGHT, 0.8f);
         root.addChild(goldLabel);
         root.addChild(seasonLabel);
         root.addChild(harvestLabel);
 
-        // ── Reactive listeners ───────────────────────────────────────
-        goldState.addListener(g -> {
-            goldLabel.setText("\u2B50 " + g + " Gold");
-            anim.start("gold_flash", 0f, 1f, 500, EasingType.EASE_OUT);
-        });
-        seasonState.addListener(s -> {
-            seasonLabel.setText(seasonSymbol(s) + " " + s);
-            seasonLabel.setColor(seasonColor(s));
-        });
-        harvestCount.addListener(h -> {
-            harvestLabel.setText("\u2714 " + h + " harvested");
-            // v6: Show/hide prestige button when eligible
-            boolean eligible = h >= PRESTIGE_HARVEST_REQ;
-            if (prestigeBtn != null) {
-                prestigeBtn.setVisible(eligible && !shopMode && !cropPickerMode);
-                prestigeBtn.setEnabled(eligible);
-            }
-        });
-
-        // ── Plot grid (3×2, clickable cells) ─────────────────────────
-        int gridOffset = (IW - (3 * CELL_W + 2 * CELL_GAP)) / 2;  // center grid
-        int[] rowDY = { GRID1_DY, GRID2_DY };
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            int row = i / 3, col = i % 3;
-            int cellX = cx + gridOffset + col * (CELL_W + CELL_GAP);
-            int cellY = py + rowDY[row];
+        // ── Plot grid (3×2 cells, paged over the farm's plots) ───────
+        int gridOffset = (IW - (GRID_COLS * CELL_W + (GRID_COLS - 1) * CELL_GAP)) / 2;  // center grid
+        plotGrid.setOrigin(cx + gridOffset, py + GRID1_DY);
+        for (int i = 0; i < GRID_CELLS; i++) {
+            int cellX = plotGrid.cellX(i);
+            int cellY = plotGrid.cellY(i);
             cellXPos[i] = cellX;
             cellYPos[i] = cellY;
 
-            // Cell background
-            DarkPanel cell = new DarkPanel(cellX, cellY, CELL_W, CELL_H);
+            // Cell background — hit-tested through the grid, so the tooltip walk agrees with clicks
+            final int slot = i;
+            DarkPanel cell = new CachedPanel(cellX, cellY, CELL_W, CELL_H) {
+                @Override
+                public boolean isHovered(int mx, int my) {
+                    return plotGrid.slotAt(mx, my) == slot;
+                }
+            };
             cell.setBackgroundColor(PLOT_EMPTY);
             cell.setCornerRadius(5);
             cell.setDrawBorder(true);
@@ -598,6 +537,11 @@ public class SampleMenuScreen extends Screen {
             plotLabels[i]    = cropLbl;
             growthBars[i]    = bar;
         }
+        // New widgets — forget what the old ones were showing
+        java.util.Arrays.fill(cellLabelKey, PlotTextCache.NO_LABEL);
+        java.util.Arrays.fill(cellTooltipKey, PlotTextCache.NO_TOOLTIP);
+        java.util.Arrays.fill(cellTitleKey, -1L);
+        selectedInfoKey = -1;
 
         // ── Selected-plot info ───────────────────────────────────────
         selectedInfo = new TextLabel(cx, py + INFO_DY, IW, 10,
@@ -605,6 +549,18 @@ public class SampleMenuScreen extends Screen {
                 TEXT_MUTED, TextLabel.Align.CENTER, 0.75f);
         root.addChild(selectedInfo);
 
+        // ── Grid page nav (either end of the info row) ───────────────
+        gridPrevBtn = new HoverButton(cx, py + INFO_DY - 1, 14, 11,
+                "\u25C0", () -> pageGrid(-1),
+                BTN_NORMAL, BTN_HOVER, BTN_PRESS, TEXT_MUTED, 3);
+        gridPrevBtn.setTooltip("Previous plots (PgUp / scroll)");
+        gridNextBtn = new HoverButton(cx + IW - 14, py + INFO_DY - 1, 14, 11,
+                "\u25B6", () -> pageGrid(1),
+                BTN_NORMAL, BTN_HOVER, BTN_PRESS, TEXT_MUTED, 3);
+        gridNextBtn.setTooltip("Next plots (PgDn / scroll)");
+        root.addChild(gridPrevBtn);
+        root.addChild(gridNextBtn);
+
         // ── ACTION BUTTONS (normal mode) ─────────────────────────────
         int actW = 60, actGap = 3;
         int actRowW = 5 * actW + 4 * actGap;
@@ -649,32 +605,162 @@ public class SampleMenuScreen extends Screen {
         root.addChild(shopBtn);
         root.addChild(closeBtn);
 
+        // ── PRESTIGE, CROP PICKER, SHOP — built on first use ─────────
+        // A resize rebuilds the tree: forget the old root's widgets, and
+        // come back in normal mode (init's fm.clear() dropped their focus contexts).
+        prestigeBtn = null;
+        java.util.Arrays.fill(cropPickBtns, null);
+        cancelPickBtn = null;
+        fertShopBtn = superFertBtn = luckyWaterBtn = null;
+        autoWaterShopBtn = goldMagnetShopBtn = soilUpgBtn = null;
+        qualityUpgBtn = luckyUpgBtn = exportBtn = null;
+        shopPrevBtn = shopNextBtn = cancelShopBtn = null;
+        shopPageLabel = null;
+        shopMode = false;
+        cropPickerMode = false;
+        if (farmData.harvests >= PRESTIGE_HARVEST_REQ) ensurePrestigeButton();
+
+        // ── v6: TAB BUTTONS (Log / Stats / Guide) ────────────────────
+        // Replace old settings section with tabbed info panel
+        int tabW = 50, tabGap = 3;
+        int tabRowW = 3 * tabW + 2 * tabGap;
+        int tabX0 = cx + (IW - tabRowW) / 2;
+        int tabY = py + DIV3_DY + 2;
+
+        tabLogBtn = new HoverButton(tabX0, tabY, tabW, 12,
+                "\u270E Log", () -> switchTab(0),
+                ACCENT_GREEN, ACCENT_GREEN_H, ACCENT_GREEN_P, TEXT_PRIMARY, 2);
+        tabLogBtn.setTooltip("Activity Log");
+
+        tabStatsBtn = new HoverButton(tabX0 + tabW + tabGap, tabY, tabW, 12,
+                "\u2606 Stats", () -> switchTab(1),
+                ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 2);
+        tabStatsBtn.setTooltip("Farm Statistics & Progress");
+
+        tabGuideBtn = new HoverButton(tabX0 + 2 * (tabW + tabGap), tabY, tabW, 12,
+                "\u2709 Guide", () -> switchTab(2),
+                ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 2);
+        tabGuideBtn.setTooltip("Gameplay Tips & Help");
+
+        root.addChild(tabLogBtn);
+        root.addChild(tabStatsBtn);
+        root.addChild(tabGuideBtn);
+    }
+
+    /**
+     * Warm reopen at the same size: bring the labels and modes of the tree
+     * built last time up to date. The plot cells are rebound by init().
+     */
+    private void rebindTree() {
+        goldLabel.setText("\u2B50 " + goldState.get() + " Gold");
+        String season = SEASONS[farmData.seasonIndex];
+        seasonLabel.setText(seasonSymbol(season) + " " + season);
+        seasonLabel.setColor(seasonColor(season));
+        harvestLabel.setText("\u2714 " + harvestCount.get() + " harvested");
+
+        // Closed from the shop or the picker: come back in normal mode, quietly
+        cancelPrestigeConfirm();
+        shopMode = false;
+        cropPickerMode = false;
+        hideAllShopItems();
+        for (UIComponent c : new UIComponent[]{shopPrevBtn, shopNextBtn, cancelShopBtn, shopPageLabel, cancelPickBtn}) {
+            if (c != null) { c.setVisible(false); c.setEnabled(false); }
+        }
+        for (HoverButton cb : cropPickBtns) {
+            if (cb != null) { cb.setVisible(false); cb.setEnabled(false); }
+        }
+        for (HoverButton b : new HoverButton[]{plantBtn, waterBtn, harvestBtn, shopBtn, closeBtn}) {
+            b.setVisible(true);
+            b.setEnabled(true);
+        }
+        boolean eligible = farmData.harvests >= PRESTIGE_HARVEST_REQ;
+        if (eligible) ensurePrestigeButton();
+        if (prestigeBtn != null) {
+            prestigeBtn.setVisible(eligible);
+            prestigeBtn.setEnabled(eligible);
+        }
+        shopHoveredItem = -1;
+        lastClickedPlot = -1;
+        selectedInfoKey = -1;
+    }
+
+    /** Listeners from the three observable states to the labels and farm data. */
+    private void bindStates() {
+        goldState.addListener(g -> {
+            journal.gold(g - farmData.gold);  // every gold change is journaled here
+            farmData.gold = g;
+            goldLabel.setText("\u2B50 " + g + " Gold");
+            anims.start(AnimationTable.GOLD_FLASH, 500, EasingType.EASE_OUT);
+        });
+        seasonState.addListener(s -> {
+            seasonLabel.setText(seasonSymbol(s) + " " + s);
+            seasonLabel.setColor(seasonColor(s));
+        });
+        harvestCount.addListener(h -> {
+            farmData.harvests = h;
+            harvestLabel.setText("\u2714 " + h + " harvested");
+            // v6: Show/hide prestige button when eligible
+            boolean eligible = h >= PRESTIGE_HARVEST_REQ;
+            if (eligible) ensurePrestigeButton();
+            if (prestigeBtn != null) {
+                prestigeBtn.setVisible(eligible && !shopMode && !cropPickerMode);
+                prestigeBtn.setEnabled(eligible);
+            }
+        });
+    }
+
+    /** Keyboard focus order for normal mode. */
+    private void registerFocus(FocusManager fm) {
         fm.register(plantBtn);
         fm.register(waterBtn);
         fm.register(harvestBtn);
         fm.register(shopBtn);
         fm.register(closeBtn);
+        if (prestigeBtn != null && farmData.harvests >= PRESTIGE_HARVEST_REQ) fm.register(prestigeBtn);
+        fm.register(tabLogBtn);
+        fm.register(tabStatsBtn);
+        fm.register(tabGuideBtn);
+
+        // ── FocusChangeListener (audio cue on keyboard navigation) ───
+        fm.addFocusChangeListener((prev, next) -> {
+            if (next != null) UISoundManager.playSelect();  // v1.8.0
+        });
+        fm.focusFirst();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  LAZY WIDGETS — prestige, crop picker and shop are built the first
+    //  time they are needed and kept until the next init()
+    // ═══════════════════════════════════════════════════════════════════
 
-        // ── PRESTIGE BUTTON (visible only when eligible) ─────────────
+    /** The prestige button (hidden and disabled until eligible). */
+    private HoverButton ensurePrestigeButton() {
+        if (prestigeBtn != null) return prestigeBtn;
+        int cx = px + PAD;
+        boolean eligible = farmData.harvests >= PRESTIGE_HARVEST_REQ;
         prestigeBtn = new HoverButton(
                 cx + IW - 80, py + LOG_HDR_DY, 76, 12,
                 "\u2605 Prestige", this::onPrestige,
                 0xFFB8860B, 0xFFDAA520, 0xFF8B6914, TEXT_PRIMARY, 3);
         prestigeBtn.setTooltip("Prestige \u2014 Reset farm for permanent +15% bonus",
                 "Requires " + PRESTIGE_HARVEST_REQ + " harvests",
-                farmData.harvests >= PRESTIGE_HARVEST_REQ ? "\u2714 Ready!" : farmData.harvests + "/" + PRESTIGE_HARVEST_REQ);
-        prestigeBtn.setVisible(farmData.harvests >= PRESTIGE_HARVEST_REQ);
-        prestigeBtn.setEnabled(farmData.harvests >= PRESTIGE_HARVEST_REQ);
+                eligible ? "\u2714 Ready!" : farmData.harvests + "/" + PRESTIGE_HARVEST_REQ);
+        prestigeBtn.setVisible(eligible && !shopMode && !cropPickerMode);
+        prestigeBtn.setEnabled(eligible);
         root.addChild(prestigeBtn);
-        if (farmData.harvests >= PRESTIGE_HARVEST_REQ) fm.register(prestigeBtn);
+        return prestigeBtn;
+    }
 
-        // ── CROP PICKER BUTTONS (hidden until picker mode) ───────────
+    /** Crop picker buttons + cancel (hidden until picker mode). */
+    private void ensureCropPicker() {
+        if (cancelPickBtn != null) return;
+        int cx = px + PAD;
         int cropW = 42, cropGap = 3;
         int cancelW = 38;
         int cropRowW = 6 * cropW + 5 * cropGap + cropGap + cancelW;
         int cropX0 = cx + (IW - cropRowW) / 2;
 
-        for (int i = 0; i < NUM_PLOTS; i++) {
+        for (int i = 0; i < CROP_COUNT; i++) {
             final int cropIdx = i;
             int btnColor   = ProceduralRenderer.darken(CROP_COLORS[i], 0.5f);
             int hoverColor = CROP_COLORS[i];
@@ -700,114 +786,39 @@ public class SampleMenuScreen extends Screen {
         cancelPickBtn.setTooltip("Cancel");
         cancelPickBtn.setVisible(false);
         root.addChild(cancelPickBtn);
+    }
 
-        // ── SHOP BUTTONS — paginated (3 pages × 3 items + nav + cancel) ──
-        int shopW = 68, shopGap = 3, navW = 22, shopCancelW = 30;
-        // 3×68 + 2×3 + 3 + 22 + 3 + 22 + 3 + 30 = 204+6+83 = 293
-        int shopRowW = 3 * shopW + 2 * shopGap + shopGap + navW + shopGap + navW + shopGap + shopCancelW;
-        int shopX0 = cx + (IW - shopRowW) / 2;
+    // ── Shop row layout (3 items + ◀ ▶ + cancel) ─────────────────────
+    private static final int SHOP_W = 68, SHOP_GAP = 3, SHOP_NAV_W = 22, SHOP_CANCEL_W = 30;
+    // 3×68 + 2×3 + 3 + 22 + 3 + 22 + 3 + 30 = 204+6+83 = 293
+    private static final int SHOP_ROW_W = 3 * SHOP_W + 2 * SHOP_GAP + SHOP_GAP
+            + SHOP_NAV_W + SHOP_GAP + SHOP_NAV_W + SHOP_GAP + SHOP_CANCEL_W;
+
+    private int shopX(int column) {
+        return px + PAD + (IW - SHOP_ROW_W) / 2 + column * (SHOP_W + SHOP_GAP);
+    }
+
+    /** Shop ◀ ▶, cancel and page label (hidden outside shop mode). */
+    private void ensureShopNav() {
+        if (cancelShopBtn != null) return;
         int shopBY = py + BTNS_DY;
-        int sX1 = shopX0 + shopW + shopGap;
-        int sX2 = shopX0 + 2 * (shopW + shopGap);
-        int navStart = shopX0 + 3 * (shopW + shopGap);
-
-        // ── PAGE 0: Consumables ──
-        fertShopBtn = new HoverButton(shopX0, shopBY, shopW, 20,
-                "\u2B06 Fert " + FERTILIZER_COST + "g", this::onBuyFertilizer,
-                ACCENT_GREEN, ACCENT_GREEN_H, ACCENT_GREEN_P, TEXT_PRIMARY, 3);
-        fertShopBtn.setTooltip("Fertilizer \u2014 " + FERTILIZER_COST + "g",
-                "+50% growth on selected crop", "(Consumable)");
-        fertShopBtn.setVisible(false);
-        root.addChild(fertShopBtn);
-
-        superFertBtn = new HoverButton(sX1, shopBY, shopW, 20,
-                "\u2B06 SFert " + SUPER_FERT_COST + "g", this::onBuySuperFertilizer,
-                0xFF8B6914, 0xFFA88420, 0xFF6E5310, TEXT_PRIMARY, 3);
-        superFertBtn.setTooltip("Super Fertilizer \u2014 " + SUPER_FERT_COST + "g",
-                "+100% growth on selected crop!", "(Consumable)");
-        superFertBtn.setVisible(false);
-        root.addChild(superFertBtn);
-
-        luckyWaterBtn = new HoverButton(sX2, shopBY, shopW, 20,
-                "\u2602 LWater " + LUCKY_WATER_COST + "g", this::onBuyLuckyWater,
-                ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 3);
-        luckyWaterBtn.setTooltip("Lucky Water \u2014 " + LUCKY_WATER_COST + "g",
-                "3\u00D7 growth speed (vs normal 2\u00D7)", "(Consumable)");
-        luckyWaterBtn.setVisible(false);
-        root.addChild(luckyWaterBtn);
-
-        // ── PAGE 1: Permanent Upgrades (existing + new procedural) ──
-        autoWaterShopBtn = new HoverButton(shopX0, shopBY, shopW, 20,
-                farmData.autoWater ? "AutoW \u2714" : "AutoW " + AUTO_WATER_COST + "g", this::onBuyAutoWater,
-                ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 3);
-        autoWaterShopBtn.setTooltip("Auto-Water \u2014 " + AUTO_WATER_COST + "g",
-                "Crops start pre-watered when planted",
-                farmData.autoWater ? "\u2714 Already purchased!" : "(Permanent)");
-        autoWaterShopBtn.setVisible(false);
-        root.addChild(autoWaterShopBtn);
-
-        goldMagnetShopBtn = new HoverButton(sX1, shopBY, shopW, 20,
-                farmData.goldMagnet ? "Magnet \u2714" : "Magnet " + GOLD_MAGNET_COST + "g", this::onBuyGoldMagnet,
-                ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 3);
-        goldMagnetShopBtn.setTooltip("Gold Magnet \u2014 " + GOLD_MAGNET_COST + "g",
-                "+50% harvest rewards",
-                farmData.goldMagnet ? "\u2714 Already purchased!" : "(Permanent)");
-        goldMagnetShopBtn.setVisible(false);
-        root.addChild(goldMagnetShopBtn);
-
-        soilUpgBtn = new HoverButton(sX2, shopBY, shopW, 20,
-                soilUpgLabel(), this::onBuySoilUpgrade,
-                0xFF3D6B2E, 0xFF4E8A3A, 0xFF2E5220, TEXT_PRIMARY, 3);
-        soilUpgBtn.setTooltip("Soil Quality Lv" + farmData.soilLevel + "/" + MAX_UPG,
-                "+20% growth speed per level",
-                farmData.soilLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g");
-        soilUpgBtn.setVisible(false);
-        root.addChild(soilUpgBtn);
-
-        // ── PAGE 2: Advanced ──
-        qualityUpgBtn = new HoverButton(shopX0, shopBY, shopW, 20,
-                qualityUpgLabel(), this::onBuyQualityUpgrade,
-                ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 3);
-        qualityUpgBtn.setTooltip("Crop Quality Lv" + farmData.qualityLevel + "/" + MAX_UPG,
-                "+20% harvest reward per level",
-                farmData.qualityLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g");
-        qualityUpgBtn.setVisible(false);
-        root.addChild(qualityUpgBtn);
-
-        luckyUpgBtn = new HoverButton(sX1, shopBY, shopW, 20,
-                luckyUpgLabel(), this::onBuyLuckyUpgrade,
-                ACCENT_PURPLE, ACCENT_PURPLE_H, ACCENT_PURPLE_P, TEXT_PRIMARY, 3);
-        luckyUpgBtn.setTooltip("Lucky Harvest Lv" + farmData.luckyLevel + "/" + MAX_UPG,
-                "+10% chance for 2\u00D7 harvest per level",
-                farmData.luckyLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g");
-        luckyUpgBtn.setVisible(false);
-        root.addChild(luckyUpgBtn);
-
-        exportBtn = new HoverButton(sX2, shopBY, shopW, 20,
-                "\u2709 Export", this::onExportCrops,
-                0xFF2D6A4F, 0xFF40916C, 0xFF1B4332, TEXT_PRIMARY, 3);
-        exportBtn.setTooltip("Export Crops",
-                "Convert crop bank to real items!",
-                totalBankCount() > 0 ? totalBankCount() + " crops ready" : "Bank empty \u2014 harvest first!");
-        exportBtn.setVisible(false);
-        root.addChild(exportBtn);
-
-        // ── NAV + CANCEL (all pages) ──
-        shopPrevBtn = new HoverButton(navStart, shopBY, navW, 20,
+        int navStart = shopX(3);
+
+        shopPrevBtn = new HoverButton(navStart, shopBY, SHOP_NAV_W, 20,
                 "\u25C0", this::prevShopPage,
                 BTN_NORMAL, BTN_HOVER, BTN_PRESS, TEXT_MUTED, 3);
         shopPrevBtn.setTooltip("Previous page");
         shopPrevBtn.setVisible(false);
         root.addChild(shopPrevBtn);
 
-        shopNextBtn = new HoverButton(navStart + navW + shopGap, shopBY, navW, 20,
+        shopNextBtn = new HoverButton(navStart + SHOP_NAV_W + SHOP_GAP, shopBY, SHOP_NAV_W, 20,
                 "\u25B6", this::nextShopPage,
                 BTN_NORMAL, BTN_HOVER, BTN_PRESS, TEXT_MUTED, 3);
         shopNextBtn.setTooltip("Next page");
         shopNextBtn.setVisible(false);
         root.addChild(shopNextBtn);
 
-        cancelShopBtn = new HoverButton(navStart + 2 * (navW + shopGap), shopBY, shopCancelW, 20,
+        cancelShopBtn = new HoverButton(navStart + 2 * (SHOP_NAV_W + SHOP_GAP), shopBY, SHOP_CANCEL_W, 20,
                 "\u2716", () -> setShopMode(false),
                 BTN_RED, BTN_RED_H, BTN_RED_P, TEXT_PRIMARY, 3);
         cancelShopBtn.setTooltip("Back");
@@ -815,86 +826,102 @@ public class SampleMenuScreen extends Screen {
         root.addChild(cancelShopBtn);
 
         // Shop page label (below buttons)
-        shopPageLabel = new TextLabel(cx, py + BTNS_DY + 22, IW, 8,
+        shopPageLabel = new TextLabel(px + PAD, py + BTNS_DY + 22, IW, 8,
                 "Page 1/" + SHOP_PAGES, TEXT_DIM, TextLabel.Align.CENTER, 0.6f);
         shopPageLabel.setVisible(false);
         root.addChild(shopPageLabel);
+    }
 
-        // ── v6: TAB BUTTONS (Log / Stats / Guide) ────────────────────
-        // Replace old settings section with tabbed info panel
-        int tabW = 50, tabGap = 3;
-        int tabRowW = 3 * tabW + 2 * tabGap;
-        int tabX0 = cx + (IW - tabRowW) / 2;
-        int tabY = py + DIV3_DY + 2;
-
-        tabLogBtn = new HoverButton(tabX0, tabY, tabW, 12,
-                "\u270E Log", () -> switchTab(0),
-                ACCENT_GREEN, ACCENT_GREEN_H, ACCENT_GREEN_P, TEXT_PRIMARY, 2);
-        tabLogBtn.setTooltip("Activity Log");
-
-        tabStatsBtn = new HoverButton(tabX0 + tabW + tabGap, tabY, tabW, 12,
-                "\u2606 Stats", () -> switchTab(1),
-                ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 2);
-        tabStatsBtn.setTooltip("Farm Statistics & Progress");
-
-        tabGuideBtn = new HoverButton(tabX0 + 2 * (tabW + tabGap), tabY, tabW, 12,
-                "\u2709 Guide", () -> switchTab(2),
-                ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 2);
-        tabGuideBtn.setTooltip("Gameplay Tips & Help");
-
-        root.addChild(tabLogBtn);
-        root.addChild(tabStatsBtn);
-        root.addChild(tabGuideBtn);
-        fm.register(tabLogBtn);
-        fm.register(tabStatsBtn);
-        fm.register(tabGuideBtn);
-
-        // ── FocusChangeListener (audio cue on keyboard navigation) ───
-        fm.addFocusChangeListener((prev, next) -> {
-            if (next != null) UISoundManager.playSelect();  // v1.8.0
-        });
-        fm.focusFirst();
-
-        // ── Entrance animation ───────────────────────────────────────
-        anim.start("farm_open", 0f, 1f, 400, EasingType.EASE_OUT_BACK);
-
-        // ── Welcome / resume log ─────────────────────────────────────
-        if (farmData.harvests > 0 || farmData.gold != 50) {
-            addLog("\u2618 Welcome back! " + goldState.get() + "g, "
-                    + harvestCount.get() + " harvests", ACCENT_GREEN);
-        } else {
-            addLog("\u2618 Welcome to Virtual Farm!", ACCENT_GREEN);
-            addLog("Click a plot, then choose a crop!", TEXT_MUTED);
-        }
-
-        // ── Restore plot visuals from persisted state ─────────────────
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (cropType[i] >= 0) {
-                // Restore cell background colours
-                if (cropGrowth[i] >= 1.0f) {
-                    plotCells[i].setBackgroundColor(PLOT_READY);
-                    plotCells[i].setBorderColor(ACCENT_GOLD);
-                    growthBars[i].setBarColor(ACCENT_GOLD);
-                } else {
-                    plotCells[i].setBackgroundColor(PLOT_PLANTED);
-                    growthBars[i].setBarColor(watered[i] ? ACCENT_BLUE : ACCENT_GREEN);
-                }
-                growthBars[i].setProgress(cropGrowth[i]);
-                growthBars[i].snapTo(cropGrowth[i]);
-                updatePlotLabel(i);
-                updatePlotTooltip(i);
+    /** The three item buttons of shop {@code page}, labelled from the current farm state. */
+    private void ensureShopPage(int page) {
+        int shopBY = py + BTNS_DY;
+        switch (page) {
+            case 0 -> { // Consumables
+                if (fertShopBtn != null) return;
+                fertShopBtn = new HoverButton(shopX(0), shopBY, SHOP_W, 20,
+                        "\u2B06 Fert " + FERTILIZER_COST + "g", this::onBuyFertilizer,
+                        ACCENT_GREEN, ACCENT_GREEN_H, ACCENT_GREEN_P, TEXT_PRIMARY, 3);
+                fertShopBtn.setTooltip("Fertilizer \u2014 " + FERTILIZER_COST + "g",
+                        "+50% growth on selected crop", "(Consumable)");
+
+                superFertBtn = new HoverButton(shopX(1), shopBY, SHOP_W, 20,
+                        "\u2B06 SFert " + SUPER_FERT_COST + "g", this::onBuySuperFertilizer,
+                        0xFF8B6914, 0xFFA88420, 0xFF6E5310, TEXT_PRIMARY, 3);
+                superFertBtn.setTooltip("Super Fertilizer \u2014 " + SUPER_FERT_COST + "g",
+                        "+100% growth on selected crop!", "(Consumable)");
+
+                luckyWaterBtn = new HoverButton(shopX(2), shopBY, SHOP_W, 20,
+                        "\u2602 LWater " + LUCKY_WATER_COST + "g", this::onBuyLuckyWater,
+                        ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 3);
+                luckyWaterBtn.setTooltip("Lucky Water \u2014 " + LUCKY_WATER_COST + "g",
+                        "3\u00D7 growth speed (vs normal 2\u00D7)", "(Consumable)");
+                addShopItems(fertShopBtn, superFertBtn, luckyWaterBtn);
+            }
+            case 1 -> { // Permanent upgrades
+                if (autoWaterShopBtn != null) return;
+                autoWaterShopBtn = new HoverButton(shopX(0), shopBY, SHOP_W, 20,
+                        farmData.autoWater ? "AutoW \u2714" : "AutoW " + AUTO_WATER_COST + "g", this::onBuyAutoWater,
+                        ACCENT_BLUE, ACCENT_BLUE_H, ACCENT_BLUE_P, TEXT_PRIMARY, 3);
+                autoWaterShopBtn.setTooltip("Auto-Water \u2014 " + AUTO_WATER_COST + "g",
+                        "Crops start pre-watered when planted",
+                        farmData.autoWater ? "\u2714 Already purchased!" : "(Permanent)");
+
+                goldMagnetShopBtn = new HoverButton(shopX(1), shopBY, SHOP_W, 20,
+                        farmData.goldMagnet ? "Magnet \u2714" : "Magnet " + GOLD_MAGNET_COST + "g", this::onBuyGoldMagnet,
+                        ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 3);
+                goldMagnetShopBtn.setTooltip("Gold Magnet \u2014 " + GOLD_MAGNET_COST + "g",
+                        "+50% harvest rewards",
+                        farmData.goldMagnet ? "\u2714 Already purchased!" : "(Permanent)");
+
+                soilUpgBtn = new HoverButton(shopX(2), shopBY, SHOP_W, 20,
+                        soilUpgLabel(), this::onBuySoilUpgrade,
+                        0xFF3D6B2E, 0xFF4E8A3A, 0xFF2E5220, TEXT_PRIMARY, 3);
+                soilUpgBtn.setTooltip("Soil Quality Lv" + farmData.soilLevel + "/" + MAX_UPG,
+                        "+20% growth speed per level",
+                        farmData.soilLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g");
+                addShopItems(autoWaterShopBtn, goldMagnetShopBtn, soilUpgBtn);
+            }
+            case 2 -> { // Advanced
+                if (qualityUpgBtn != null) return;
+                qualityUpgBtn = new HoverButton(shopX(0), shopBY, SHOP_W, 20,
+                        qualityUpgLabel(), this::onBuyQualityUpgrade,
+                        ACCENT_GOLD, ACCENT_GOLD_H, ACCENT_GOLD_P, TEXT_PRIMARY, 3);
+                qualityUpgBtn.setTooltip("Crop Quality Lv" + farmData.qualityLevel + "/" + MAX_UPG,
+                        "+20% harvest reward per level",
+                        farmData.qualityLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g");
+
+                luckyUpgBtn = new HoverButton(shopX(1), shopBY, SHOP_W, 20,
+                        luckyUpgLabel(), this::onBuyLuckyUpgrade,
+                        ACCENT_PURPLE, ACCENT_PURPLE_H, ACCENT_PURPLE_P, TEXT_PRIMARY, 3);
+                luckyUpgBtn.setTooltip("Lucky Harvest Lv" + farmData.luckyLevel + "/" + MAX_UPG,
+                        "+10% chance for 2\u00D7 harvest per level",
+                        farmData.luckyLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g");
+
+                exportBtn = new HoverButton(shopX(2), shopBY, SHOP_W, 20,
+                        "\u2709 Export", this::onExportCrops,
+                        0xFF2D6A4F, 0xFF40916C, 0xFF1B4332, TEXT_PRIMARY, 3);
+                exportBtn.setTooltip("Export Crops",
+                        "Convert crop bank to real items!",
+                        totalBankCount() > 0 ? totalBankCount() + " crops ready" : "Bank empty \u2014 harvest first!");
+                addShopItems(qualityUpgBtn, luckyUpgBtn, exportBtn);
             }
         }
+    }
 
-        updatePlotHighlight();
-        updateSelectedInfo();
+    private void addShopItems(HoverButton... items) {
+        for (HoverButton b : items) {
+            b.setVisible(false);
+            root.addChild(b);
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════════
     //  CROP PICKER MODE TOGGLE
     // ═══════════════════════════════════════════════════════════════════
     private void setCropPickerMode(boolean picking) {
+        if (picking) ensureCropPicker();
         cropPickerMode = picking;
+        boolean built = cancelPickBtn != null;
 
         // Toggle button visibility
         plantBtn.setVisible(!picking);
@@ -902,8 +929,11 @@ public class SampleMenuScreen extends Screen {
         harvestBtn.setVisible(!picking);
         shopBtn.setVisible(!picking);
         closeBtn.setVisible(!picking);
-        for (HoverButton cb : cropPickBtns) cb.setVisible(picking);
-        cancelPickBtn.setVisible(picking);
+        if (built) {
+            for (HoverButton cb : cropPickBtns) cb.setVisible(picking);
+            cancelPickBtn.setVisible(picking);
+        }
+        updateGridNav();
 
         // v6: Hide prestige button when in picker
         if (prestigeBtn != null) {
@@ -917,8 +947,10 @@ public class SampleMenuScreen extends Screen {
         harvestBtn.setEnabled(!picking);
         shopBtn.setEnabled(!picking);
         closeBtn.setEnabled(!picking);
-        for (HoverButton cb : cropPickBtns) cb.setEnabled(picking);
-        cancelPickBtn.setEnabled(picking);
+        if (built) {
+            for (HoverButton cb : cropPickBtns) cb.setEnabled(picking);
+            cancelPickBtn.setEnabled(picking);
+        }
 
         // v1.8.0: pushContext/popContext for clean focus isolation
         FocusManager fm = FocusManager.getInstance();
@@ -927,8 +959,7 @@ public class SampleMenuScreen extends Screen {
             for (HoverButton cb : cropPickBtns) fm.register(cb);
             fm.register(cancelPickBtn);
             fm.focusFirst();
-            selectedInfo.setText("\u25BC Choose a crop to plant:");
-            selectedInfo.setColor(ACCENT_GREEN);
+            showInfo("\u25BC Choose a crop to plant:", ACCENT_GREEN);
         } else {
             fm.popContext();
             fm.focusFirst();
@@ -936,7 +967,7 @@ public class SampleMenuScreen extends Screen {
         }
 
         // Mode transition animation
-        AnimationTicker.getInstance().start("mode_switch", 0f, 1f, 200, EasingType.EASE_OUT);
+        anims.start(AnimationTable.MODE_SWITCH, 200, EasingType.EASE_OUT);
 
         if (picking) {
             UISoundManager.playSelect();  // v1.8.0
@@ -955,16 +986,15 @@ public class SampleMenuScreen extends Screen {
     }
 
     private void setShopMode(boolean shopping) {
+        if (shopping) ensureShopNav();
         shopMode = shopping;
         if (shopping) shopPage = 0;
 
         // Toggle plot grid visibility (hide plots in shop mode)
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            plotCells[i].setVisible(!shopping);
-            growthBars[i].setVisible(!shopping);
-            plotLabels[i].setVisible(!shopping);
-            plotNumLabels[i].setVisible(!shopping);
+        for (int s = 0; s < GRID_CELLS; s++) {
+            setCellVisible(s, !shopping && plotAt(s) < plots.size());
         }
+        updateGridNav();
         selectedInfo.setVisible(!shopping || shopping); // always visible (shows shop header)
 
         // Toggle action buttons vs shop
@@ -980,13 +1010,15 @@ public class SampleMenuScreen extends Screen {
         closeBtn.setEnabled(!shopping);
 
         // Nav + cancel always visible in shop mode
-        shopPrevBtn.setVisible(shopping);
-        shopNextBtn.setVisible(shopping);
-        cancelShopBtn.setVisible(shopping);
-        shopPageLabel.setVisible(shopping);
-        shopPrevBtn.setEnabled(shopping);
-        shopNextBtn.setEnabled(shopping);
-        cancelShopBtn.setEnabled(shopping);
+        if (cancelShopBtn != null) {
+            shopPrevBtn.setVisible(shopping);
+            shopNextBtn.setVisible(shopping);
+            cancelShopBtn.setVisible(shopping);
+            shopPageLabel.setVisible(shopping);
+            shopPrevBtn.setEnabled(shopping);
+            shopNextBtn.setEnabled(shopping);
+            cancelShopBtn.setEnabled(shopping);
+        }
 
         // v6: Hide prestige button when in shop/picker
         if (prestigeBtn != null) {
@@ -1009,15 +1041,14 @@ public class SampleMenuScreen extends Screen {
             fm.register(shopNextBtn);
             fm.register(cancelShopBtn);
             fm.focusFirst();
-            selectedInfo.setText("\u2B06 Shop \u2014 Page " + (shopPage + 1) + "/" + SHOP_PAGES);
-            selectedInfo.setColor(ACCENT_PURPLE);
+            showInfo("\u2B06 Shop \u2014 Page " + (shopPage + 1) + "/" + SHOP_PAGES, ACCENT_PURPLE);
         } else {
             fm.popContext();
             fm.focusFirst();
             updateSelectedInfo();
         }
 
-        AnimationTicker.getInstance().start("mode_switch", 0f, 1f, 200, EasingType.EASE_OUT);
+        anims.start(AnimationTable.MODE_SWITCH, 200, EasingType.EASE_OUT);
 
         if (shopping) {
             UISoundManager.playSelect();
@@ -1029,6 +1060,7 @@ public class SampleMenuScreen extends Screen {
 
     /** Show the correct 3 item buttons for the given shop page. */
     private void showShopPage(int page) {
+        ensureShopPage(page);
         hideAllShopItems();
         switch (page) {
             case 0 -> { fertShopBtn.setVisible(true); fertShopBtn.setEnabled(true);
@@ -1042,8 +1074,7 @@ public class SampleMenuScreen extends Screen {
                          exportBtn.setVisible(true); exportBtn.setEnabled(true); }
         }
         shopPageLabel.setText("Page " + (page + 1) + "/" + SHOP_PAGES);
-        selectedInfo.setText("\u2B06 Shop \u2014 Page " + (page + 1) + "/" + SHOP_PAGES);
-        selectedInfo.setColor(ACCENT_PURPLE);
+        showInfo("\u2B06 Shop \u2014 Page " + (page + 1) + "/" + SHOP_PAGES, ACCENT_PURPLE);
     }
 
     private void hideAllShopItems() {
@@ -1103,12 +1134,13 @@ public class SampleMenuScreen extends Screen {
 
     private void onBuyFertilizer() {
         int p = selectedPlot;
-        if (cropType[p] < 0) {
+        simulation.sync(p);
+        if (plots.type[p] < 0) {
             addLog("\u2716 No crop to fertilize!", LOG_ERR);
             UISoundManager.playError();
             return;
         }
-        if (cropGrowth[p] >= 1.0f) {
+        if (plots.growth[p] >= 1.0f) {
             addLog("\u26A0 Already fully grown!", LOG_WARN);
             UISoundManager.playBoundary();
             return;
@@ -1119,20 +1151,16 @@ public class SampleMenuScreen extends Screen {
             return;
         }
         goldState.set(goldState.get() - FERTILIZER_COST);
-        cropGrowth[p] = Math.min(1.0f, cropGrowth[p] + 0.50f);
-        growthBars[p].setProgress(cropGrowth[p]);
-        updatePlotLabel(p);
-        updatePlotTooltip(p);
+        plots.growth[p] = Math.min(1.0f, plots.growth[p] + 0.50f);
+        journal.growth(p, plots.growth[p]);
+        simulation.replan(p);
+        refreshPlot(p);
 
-        if (cropGrowth[p] >= 1.0f) {
-            plotCells[p].setBackgroundColor(PLOT_READY);
-            plotCells[p].setBorderColor(ACCENT_GOLD);
-            growthBars[p].setBarColor(ACCENT_GOLD);
-            addLog("\u2714 " + CROP_NAMES[cropType[p]] + " ready in P" + (p + 1) + "!", ACCENT_GOLD);
+        if (plots.growth[p] >= 1.0f) {
+            addLog("\u2714 " + CROP_NAMES[plots.type[p]] + " ready in P" + (p + 1) + "!", ACCENT_GOLD);
         }
 
-        AnimationTicker anim = AnimationTicker.getInstance();
-        anim.start("cell_flash_" + p, 0f, 1f, 400, EasingType.EASE_OUT);
+        animatePlot(p, AnimationTable.CELL_FLASH, 400, EasingType.EASE_OUT);
         shakeHelper.triggerMedium();  // v1.8.0
 
         FloatingText.show("-" + FERTILIZER_COST + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
@@ -1155,9 +1183,12 @@ public class SampleMenuScreen extends Screen {
         }
         goldState.set(goldState.get() - AUTO_WATER_COST);
         farmData.autoWater = true;
+        journal.upgrade(FarmJournal.UPG_AUTO_WATER);
 
-        autoWaterShopBtn.setEnabled(false);
-        autoWaterShopBtn.setTooltip("Auto-Water", "Crops start pre-watered when planted", "\u2714 Already purchased!");
+        if (autoWaterShopBtn != null) {
+            autoWaterShopBtn.setEnabled(false);
+            autoWaterShopBtn.setTooltip("Auto-Water", "Crops start pre-watered when planted", "\u2714 Already purchased!");
+        }
 
         FloatingText.show("-" + AUTO_WATER_COST + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
         shakeHelper.triggerMedium();  // v1.8.0
@@ -1181,9 +1212,12 @@ public class SampleMenuScreen extends Screen {
         }
         goldState.set(goldState.get() - GOLD_MAGNET_COST);
         farmData.goldMagnet = true;
+        journal.upgrade(FarmJournal.UPG_GOLD_MAGNET);
 
-        goldMagnetShopBtn.setEnabled(false);
-        goldMagnetShopBtn.setTooltip("Gold Magnet", "+50% harvest rewards", "\u2714 Already purchased!");
+        if (goldMagnetShopBtn != null) {
+            goldMagnetShopBtn.setEnabled(false);
+            goldMagnetShopBtn.setTooltip("Gold Magnet", "+50% harvest rewards", "\u2714 Already purchased!");
+        }
 
         FloatingText.show("-" + GOLD_MAGNET_COST + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
         shakeHelper.triggerMedium();  // v1.8.0
@@ -1200,21 +1234,19 @@ public class SampleMenuScreen extends Screen {
 
     private void onBuySuperFertilizer() {
         int p = selectedPlot;
-        if (cropType[p] < 0) { addLog("\u2716 No crop to fertilize!", LOG_ERR); UISoundManager.playError(); return; }
-        if (cropGrowth[p] >= 1.0f) { addLog("\u26A0 Already fully grown!", LOG_WARN); UISoundManager.playBoundary(); return; }
+        simulation.sync(p);
+        if (plots.type[p] < 0) { addLog("\u2716 No crop to fertilize!", LOG_ERR); UISoundManager.playError(); return; }
+        if (plots.growth[p] >= 1.0f) { addLog("\u26A0 Already fully grown!", LOG_WARN); UISoundManager.playBoundary(); return; }
         if (goldState.get() < SUPER_FERT_COST) { addLog("\u2716 Need " + SUPER_FERT_COST + "g!", LOG_ERR); UISoundManager.playError(); return; }
         spendGold(SUPER_FERT_COST);
-        cropGrowth[p] = Math.min(1.0f, cropGrowth[p] + 1.0f);
-        growthBars[p].setProgress(cropGrowth[p]);
-        updatePlotLabel(p);
-        updatePlotTooltip(p);
-        if (cropGrowth[p] >= 1.0f) {
-            plotCells[p].setBackgroundColor(PLOT_READY);
-            plotCells[p].setBorderColor(ACCENT_GOLD);
-            growthBars[p].setBarColor(ACCENT_GOLD);
-            addLog("\u2714 " + CROP_NAMES[cropType[p]] + " ready in P" + (p + 1) + "!", ACCENT_GOLD);
-        }
-        AnimationTicker.getInstance().start("cell_flash_" + p, 0f, 1f, 400, EasingType.EASE_OUT);
+        plots.growth[p] = Math.min(1.0f, plots.growth[p] + 1.0f);
+        journal.growth(p, plots.growth[p]);
+        simulation.replan(p);
+        refreshPlot(p);
+        if (plots.growth[p] >= 1.0f) {
+            addLog("\u2714 " + CROP_NAMES[plots.type[p]] + " ready in P" + (p + 1) + "!", ACCENT_GOLD);
+        }
+        animatePlot(p, AnimationTable.CELL_FLASH, 400, EasingType.EASE_OUT);
         shakeHelper.triggerHeavy();
         FloatingText.show("-" + SUPER_FERT_COST + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
         UISoundManager.playCelebration();
@@ -1224,14 +1256,17 @@ public class SampleMenuScreen extends Screen {
 
     private void onBuyLuckyWater() {
         int p = selectedPlot;
-        if (cropType[p] < 0) { addLog("\u2716 Nothing to water!", LOG_ERR); UISoundManager.playError(); return; }
-        if (cropGrowth[p] >= 1.0f) { addLog("\u26A0 Already grown!", LOG_WARN); UISoundManager.playBoundary(); return; }
-        if (watered[p]) { addLog("\u26A0 Already watered!", LOG_WARN); UISoundManager.playBoundary(); return; }
+        simulation.sync(p);
+        if (plots.type[p] < 0) { addLog("\u2716 Nothing to water!", LOG_ERR); UISoundManager.playError(); return; }
+        if (plots.growth[p] >= 1.0f) { addLog("\u26A0 Already grown!", LOG_WARN); UISoundManager.playBoundary(); return; }
+        if (plots.watered[p]) { addLog("\u26A0 Already watered!", LOG_WARN); UISoundManager.playBoundary(); return; }
         if (goldState.get() < LUCKY_WATER_COST) { addLog("\u2716 Need " + LUCKY_WATER_COST + "g!", LOG_ERR); UISoundManager.playError(); return; }
         spendGold(LUCKY_WATER_COST);
-        watered[p] = true;
-        growthBars[p].setBarColor(ACCENT_PURPLE);  // purple = lucky water
-        updatePlotTooltip(p);
+        plots.watered[p] = true;
+        plots.lucky[p] = true;
+        journal.water(p, true);
+        simulation.replan(p);
+        refreshPlot(p);  // purple bar = lucky water
         shakeHelper.triggerMedium();
         FloatingText.show("-" + LUCKY_WATER_COST + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
         UISoundManager.playCreate();
@@ -1245,10 +1280,13 @@ public class SampleMenuScreen extends Screen {
         if (goldState.get() < cost) { addLog("\u2716 Need " + cost + "g!", LOG_ERR); UISoundManager.playError(); return; }
         spendGold(cost);
         farmData.soilLevel++;
-        soilUpgBtn.setText(soilUpgLabel());
-        soilUpgBtn.setTooltip("Soil Quality Lv" + farmData.soilLevel + "/" + MAX_UPG,
-                "+20% growth speed per level",
-                farmData.soilLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g");
+        journal.upgrade(FarmJournal.UPG_SOIL);
+        if (soilUpgBtn != null) {
+            soilUpgBtn.setText(soilUpgLabel());
+            soilUpgBtn.setTooltip("Soil Quality Lv" + farmData.soilLevel + "/" + MAX_UPG,
+                    "+20% growth speed per level",
+                    farmData.soilLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g");
+        }
         shakeHelper.triggerMedium();
         FloatingText.show("Soil Lv" + farmData.soilLevel, FloatingText.Anchor.TOP_CENTER, ACCENT_GREEN, 900L);
         UISoundManager.playSuccess();
@@ -1262,10 +1300,13 @@ public class SampleMenuScreen extends Screen {
         if (goldState.get() < cost) { addLog("\u2716 Need " + cost + "g!", LOG_ERR); UISoundManager.playError(); return; }
         spendGold(cost);
         farmData.qualityLevel++;
-        qualityUpgBtn.setText(qualityUpgLabel());
-        qualityUpgBtn.setTooltip("Crop Quality Lv" + farmData.qualityLevel + "/" + MAX_UPG,
-                "+20% harvest reward per level",
-                farmData.qualityLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g");
+        journal.upgrade(FarmJournal.UPG_QUALITY);
+        if (qualityUpgBtn != null) {
+            qualityUpgBtn.setText(qualityUpgLabel());
+            qualityUpgBtn.setTooltip("Crop Quality Lv" + farmData.qualityLevel + "/" + MAX_UPG,
+                    "+20% harvest reward per level",
+                    farmData.qualityLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g");
+        }
         shakeHelper.triggerMedium();
         FloatingText.show("Quality Lv" + farmData.qualityLevel, FloatingText.Anchor.TOP_CENTER, ACCENT_GOLD, 900L);
         UISoundManager.playSuccess();
@@ -1279,10 +1320,13 @@ public class SampleMenuScreen extends Screen {
         if (goldState.get() < cost) { addLog("\u2716 Need " + cost + "g!", LOG_ERR); UISoundManager.playError(); return; }
         spendGold(cost);
         farmData.luckyLevel++;
-        luckyUpgBtn.setText(luckyUpgLabel());
-        luckyUpgBtn.setTooltip("Lucky Harvest Lv" + farmData.luckyLevel + "/" + MAX_UPG,
-                "+10% chance for 2\u00D7 harvest per level",
-                farmData.luckyLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g");
+        journal.upgrade(FarmJournal.UPG_LUCKY);
+        if (luckyUpgBtn != null) {
+            luckyUpgBtn.setText(luckyUpgLabel());
+            luckyUpgBtn.setTooltip("Lucky Harvest Lv" + farmData.luckyLevel + "/" + MAX_UPG,
+                    "+10% chance for 2\u00D7 harvest per level",
+                    farmData.luckyLevel >= MAX_UPG ? "\u2714 MAX" : "Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g");
+        }
         shakeHelper.triggerMedium();
         FloatingText.show("Lucky Lv" + farmData.luckyLevel, FloatingText.Anchor.TOP_CENTER, ACCENT_PURPLE, 900L);
         UISoundManager.playSuccess();
@@ -1303,7 +1347,7 @@ public class SampleMenuScreen extends Screen {
         if (mc.getServer() != null && mc.player != null) {
             ServerPlayerEntity sp = mc.getServer().getPlayerManager().getPlayer(mc.player.getUuid());
             if (sp != null) {
-                for (int i = 0; i < NUM_PLOTS; i++) {
+                for (int i = 0; i < CROP_COUNT; i++) {
                     if (farmData.cropBank[i] > 0) {
                         sp.getInventory().insertStack(new ItemStack(CROP_ITEMS[i], farmData.cropBank[i]));
                     }
@@ -1314,7 +1358,7 @@ public class SampleMenuScreen extends Screen {
 
         // Build summary
         StringBuilder summary = new StringBuilder();
-        for (int i = 0; i < NUM_PLOTS; i++) {
+        for (int i = 0; i < CROP_COUNT; i++) {
             if (farmData.cropBank[i] > 0) {
                 if (summary.length() > 0) summary.append(", ");
                 summary.append(farmData.cropBank[i]).append("\u00D7").append(CROP_NAMES[i]);
@@ -1327,6 +1371,7 @@ public class SampleMenuScreen extends Screen {
         FloatingText.show("\u2709 Exported!", FloatingText.Anchor.TOP_CENTER, ACCENT_GREEN, 1200L);
         UISoundManager.playCelebration();
         if (gavItems) {
+            journal.export(0);
             addLog("\u2709 Exported to inventory: " + summary, ACCENT_GREEN);
             sendChat(Formatting.GREEN + "\u2709 Crops exported to inventory!");
         } else {
@@ -1334,11 +1379,14 @@ public class SampleMenuScreen extends Screen {
             int bonusGold = total * 3;
             goldState.set(goldState.get() + bonusGold);
             farmData.totalGoldEarned += bonusGold;
+            journal.export(bonusGold);
             addLog("\u2709 Exported " + total + " crops! +" + bonusGold + "g bonus", ACCENT_GREEN);
             sendChat(Formatting.GREEN + "\u2709 " + total + " crops exported! +" + bonusGold + "g");
         }
 
-        exportBtn.setTooltip("Export Crops", "Convert crop bank to real items!", "Bank empty \u2014 harvest first!");
+        if (exportBtn != null) {
+            exportBtn.setTooltip("Export Crops", "Convert crop bank to real items!", "Bank empty \u2014 harvest first!");
+        }
     }
 
     private void onPrestige() {
@@ -1364,47 +1412,28 @@ public class SampleMenuScreen extends Screen {
             UISoundManager.playBoundary();
             shakeHelper.triggerLight();
             // Flash the button
-            AnimationTicker.getInstance().start("prestige_flash", 0f, 1f, 800, EasingType.EASE_IN_OUT);
+            anims.start(AnimationTable.PRESTIGE_FLASH, 800, EasingType.EASE_IN_OUT);
             return;
         }
 
         // Second click within 5s — actually prestige
         prestigeConfirmPending = false;
 
-        // Perform prestige
-        int newLevel = farmData.prestigeLevel + 1;
-        int startGold = 50 + 25 * newLevel;
-
-        // Reset most data but keep prestige + lifetime stats
-        int savedTotalGold = farmData.totalGoldEarned;
-        int savedExported = farmData.totalCropsExported;
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            farmData.cropType[i] = -1;
-            farmData.cropGrowth[i] = 0f;
-            farmData.watered[i] = false;
-            farmData.cropBank[i] = 0;
-        }
-        farmData.gold = startGold;
-        farmData.harvests = 0;
-        farmData.seasonIndex = 0;
-        farmData.seasonTicks = 0;
-        farmData.autoWater = false;
-        farmData.goldMagnet = false;
-        farmData.soilLevel = 0;
-        farmData.qualityLevel = 0;
-        farmData.luckyLevel = 0;
-        farmData.speedMult = 1.0f;
-        farmData.prestigeLevel = newLevel;
-        farmData.totalGoldEarned = savedTotalGold;
-        farmData.totalCropsExported = savedExported;
-        farmData.saveToFile();
+        // Perform prestige: reset most data but keep prestige + lifetime stats
+        endRecordingBeforeReset();
+        int newLevel = FarmRules.prestige(farmData, simulation);
+        int startGold = farmData.gold;
+        journal.prestige();  // replayed like any other record, so later ones land on the reset farm
+        goldState.set(startGold);          // removed() writes these back to farmData
+        harvestCount.set(farmData.harvests);
+        saveFarm();
 
         shakeHelper.triggerHeavy();
         UISoundManager.playGong();
         sendChat(Formatting.LIGHT_PURPLE + "\u2605 PRESTIGE " + newLevel + "! Farm reset with permanent bonuses!");
         sendChat(Formatting.GOLD + "  +15% harvest bonus per prestige, +" + startGold + "g starting gold");
 
-        // Re-open screen to refresh everything
+        // Re-open on a fresh screen (new title, new tree); it becomes the warm one
         MinecraftClient.getInstance().execute(() -> {
             MinecraftClient.getInstance().setScreen(new SampleMenuScreen());
         });
@@ -1437,75 +1466,66 @@ public class SampleMenuScreen extends Screen {
     // ═══════════════════════════════════════════════════════════════════
     @Override
     public void tick() {
+        long probe = Metrics.SCREEN_TICK.begin();
+        updates.begin();
         super.tick();
         tickCounter++;
         AnimationTicker.getInstance().tick();
 
-        // ── Grow crops ───────────────────────────────────────────────
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (cropType[i] >= 0 && cropGrowth[i] < 1.0f) {
-                // Lucky Water: growth bar is purple → 3× speed; normal water → 2×
-                boolean isLucky = watered[i] && growthBars[i].getBarColor() == ACCENT_PURPLE;
-                float waterMult = watered[i] ? (isLucky ? 3.0f : 2.0f) : 1.0f;
-                float speed = GROW_SPEEDS[cropType[i]] * waterMult;
-                speed *= farmData.speedMult;  // v5: slider-controlled speed multiplier
-                speed *= (1.0f + 0.2f * farmData.soilLevel);  // v6: Soil Quality bonus
-                if (seasonIndex == 1) speed *= 1.5f;       // Summer boost
-                else if (seasonIndex == 3) speed *= 0.3f;  // Winter penalty
-
-                cropGrowth[i] = Math.min(1.0f, cropGrowth[i] + speed * 0.02f);
-                growthBars[i].setProgress(cropGrowth[i]);
+        // ── Grow crops, cycle seasons, evaporate water (headless engine) ──
+        simulation.step(1, simListener);
+        farm.persistTick();
+
+        // ── Refresh growing plot visuals (current grid page only) ────
+        for (int s = 0; s < GRID_CELLS; s++) {
+            int i = plotAt(s);
+            if (i < plots.size() && plots.type[i] >= 0 && plots.growth[i] < 1.0f) {
+                simulation.sync(i);  // growth is lazy; only the visible page is brought current
+                growthBars[s].setProgress(plots.growth[i]);
                 updatePlotLabel(i);
                 updatePlotTooltip(i);
-
-                if (cropGrowth[i] >= 1.0f) {
-                    plotCells[i].setBackgroundColor(PLOT_READY);
-                    plotCells[i].setBorderColor(ACCENT_GOLD);
-                    growthBars[i].setBarColor(ACCENT_GOLD);
-                    addLog("\u2714 " + CROP_NAMES[cropType[i]] + " ready in P" + (i + 1) + "!", ACCENT_GOLD);
-                    sendActionBar(Formatting.GREEN + "\u2714 " + CROP_NAMES[cropType[i]] + " ready to harvest!");
-                    // Ready pulse
-                    AnimationTicker.getInstance().start("ready_" + i, 0f, 1f, 600, EasingType.EASE_OUT_BACK);
-                    UISoundManager.playReady();  // v1.8.0 preset
-                }
             }
         }
 
-        // ── Season cycle (per-season duration) ─────────────────────
-        seasonTicks++;
-        if (seasonTicks >= SEASON_TICKS[seasonIndex]) {
-            seasonTicks = 0;
-            seasonIndex = (seasonIndex + 1) % 4;
-            seasonState.set(SEASONS[seasonIndex]);
-            addLog("\u2600 Season: " + SEASONS[seasonIndex], seasonColor(SEASONS[seasonIndex]));
-            sendChat(Formatting.YELLOW + "\u2600 Season \u2192 " + SEASONS[seasonIndex]);
-            if (seasonIndex == 3) {
+        updateSelectedInfo();
+        updates.end();
+        Metrics.SCREEN_TICK.end(probe);
+    }
+
+    /** UI reactions to engine events while the screen is open. */
+    private final FarmSimulation.Listener simListener = new FarmSimulation.Listener() {
+        @Override
+        public void onPlotMatured(int i) {
+            refreshPlot(i);
+            addLog("\u2714 " + CROP_NAMES[plots.type[i]] + " ready in P" + (i + 1) + "!", ACCENT_GOLD);
+            sendActionBar(Formatting.GREEN + "\u2714 " + CROP_NAMES[plots.type[i]] + " ready to harvest!");
+            // Ready pulse
+            animatePlot(i, AnimationTable.READY, 600, EasingType.EASE_OUT_BACK);
+            UISoundManager.playReady();  // v1.8.0 preset
+        }
+
+        @Override
+        public void onSeasonChanged(int season) {
+            seasonState.set(SEASONS[season]);
+            addLog("\u2600 Season: " + SEASONS[season], seasonColor(SEASONS[season]));
+            sendChat(Formatting.YELLOW + "\u2600 Season \u2192 " + SEASONS[season]);
+            if (season == 3) {
                 addLog("\u2744 Winter! Growth slowed.", ACCENT_BLUE);
-            } else if (seasonIndex == 1) {
+            } else if (season == 1) {
                 addLog("\u2600 Summer! Growth boosted!", ACCENT_GOLD);
             }
-            AnimationTicker.getInstance().start("season_flash", 1f, 0f, 600, EasingType.EASE_IN_OUT);
+            anims.start(AnimationTable.SEASON_FLASH, true, 600, EasingType.EASE_IN_OUT);
             UISoundManager.playGong();  // v1.8.0 preset
         }
 
-        // ── Water evaporation (every 200 ticks = 10s) ────────────────
-        if (tickCounter % 200 == 0) {
-            boolean any = false;
-            for (int i = 0; i < NUM_PLOTS; i++) {
-                if (watered[i]) {
-                    watered[i] = false;
-                    any = true;
-                    if (cropType[i] >= 0 && cropGrowth[i] < 1.0f) {
-                        growthBars[i].setBarColor(ACCENT_GREEN);
-                    }
-                    updatePlotTooltip(i);
-                }
+        @Override
+        public void onWaterEvaporated(int plotsDried) {
+            for (int s = 0; s < GRID_CELLS; s++) {
+                if (plotAt(s) < plots.size()) bindCell(s, false);
             }
-            if (any) addLog("\u2602 Water evaporated.", TEXT_MUTED);
+            addLog("\u2602 Water evaporated.", TEXT_MUTED);
         }
-
-        updateSelectedInfo();
-    }
+    };
 
     // ═══════════════════════════════════════════════════════════════════
     //  ACTIONS
@@ -1515,7 +1535,7 @@ public class SampleMenuScreen extends Screen {
     private void onPlantClicked() {
         cancelPrestigeConfirm();  // v7
         int p = selectedPlot;
-        if (cropType[p] >= 0) {
+        if (plots.type[p] >= 0) {
             addLog("\u2716 P" + (p + 1) + " already planted!", LOG_ERR);
             UISoundManager.playError();
             shakeHelper.triggerLight();  // v1.8.0
@@ -1544,25 +1564,22 @@ public class SampleMenuScreen extends Screen {
         }
 
         goldState.set(goldState.get() - cost);
-        cropType[p]   = type;
-        lastCropType[p] = type;  // v7: remember for auto-replant
-        cropGrowth[p] = 0.0f;
-        watered[p]    = farmData.autoWater;  // Auto-Water upgrade: start pre-watered
-
-        plotCells[p].setBackgroundColor(PLOT_PLANTED);
-        growthBars[p].setBarColor(farmData.autoWater ? ACCENT_BLUE : ACCENT_GREEN);
-        growthBars[p].setProgress(0.0f);
-        growthBars[p].snapTo(0.0f);
-        updatePlotLabel(p);
-        updatePlotTooltip(p);
+        plots.type[p]   = type;
+        plots.lastType[p] = type;  // v7: remember for auto-replant
+        plots.growth[p] = 0.0f;
+        plots.watered[p]    = farmData.autoWater;  // Auto-Water upgrade: start pre-watered
+        plots.lucky[p] = false;
+        simulation.replan(p);
+        journal.plant(p, type, plots.watered[p]);
+
+        refreshPlot(p, true);
         updatePlotHighlight();
 
         setCropPickerMode(false);
 
         // Animations
-        AnimationTicker anim = AnimationTicker.getInstance();
-        anim.start("plant_" + p, 0f, 1f, 350, EasingType.EASE_OUT_BACK);
-        anim.start("cell_flash_" + p, 0f, 1f, 400, EasingType.EASE_OUT);
+        animatePlot(p, AnimationTable.PLANT, 350, EasingType.EASE_OUT_BACK);
+        animatePlot(p, AnimationTable.CELL_FLASH, 400, EasingType.EASE_OUT);
         shakeHelper.triggerMedium();  // v1.8.0
 
         // v1.8.0: FloatingText toast notification
@@ -1581,103 +1598,173 @@ public class SampleMenuScreen extends Screen {
     private void onWater() {
         cancelPrestigeConfirm();  // v7
         int p = selectedPlot;
-        if (cropType[p] < 0) {
+        simulation.sync(p);
+        if (plots.type[p] < 0) {
             addLog("\u2716 Nothing to water!", LOG_ERR);
             UISoundManager.playError();
             shakeHelper.triggerLight();  // v1.8.0
             return;
         }
-        if (cropGrowth[p] >= 1.0f) {
+        if (plots.growth[p] >= 1.0f) {
             addLog("\u26A0 Already grown \u2014 harvest it!", LOG_WARN);
             UISoundManager.playBoundary();
             return;
         }
-        if (watered[p]) {
+        if (plots.watered[p]) {
             addLog("\u26A0 Already watered!", LOG_WARN);
             UISoundManager.playBoundary();
             return;
         }
 
-        watered[p] = true;
-        growthBars[p].setBarColor(ACCENT_BLUE);
-        updatePlotTooltip(p);
+        plots.watered[p] = true;
+        simulation.replan(p);
+        journal.water(p, false);
+        refreshPlot(p);
 
-        AnimationTicker anim = AnimationTicker.getInstance();
-        anim.start("water_" + p, 0f, 1f, 300, EasingType.EASE_IN_OUT_SINE);
-        anim.start("cell_flash_" + p, 0f, 1f, 350, EasingType.EASE_OUT);
+        animatePlot(p, AnimationTable.WATER, 300, EasingType.EASE_IN_OUT_SINE);
+        animatePlot(p, AnimationTable.CELL_FLASH, 350, EasingType.EASE_OUT);
         shakeHelper.triggerLight();  // v1.8.0
 
         // Sound: v1.8.0 deep water click
         UISoundManager.playClick(0.5f, 0.5f);
 
-        addLog("\u2602 Watered " + CROP_NAMES[cropType[p]] + " (2\u00D7 speed)", ACCENT_BLUE);
+        addLog("\u2602 Watered " + CROP_NAMES[plots.type[p]] + " (2\u00D7 speed)", ACCENT_BLUE);
     }
 
+    // ── Bulk actions: one FarmBatch pass, then a single round of feedback ──
+
     /** Bulk water — waters all planted, unwatered, growing crops. */
     private void onWaterAll() {
-        int count = 0;
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (cropType[i] >= 0 && !watered[i] && cropGrowth[i] < 1.0f) {
-                int prev = selectedPlot;
-                selectPlot(i);
-                onWater();
-                count++;
-            }
-        }
-        if (count == 0) {
+        cancelPrestigeConfirm();  // v7
+        beforeBatch();
+        FarmBatch b = FarmBatch.waterAll(farmData, simulation, journal);
+        if (b.plots == 0) {
             addLog("\u2716 Nothing to water!", LOG_ERR);
             UISoundManager.playBoundary();
-        } else {
-            addLog("\u2602 Watered " + count + " plots! (Shift+W)", ACCENT_BLUE);
+            return;
         }
+        afterBatch(AnimationTable.WATER, 300, EasingType.EASE_IN_OUT_SINE);
+        shakeHelper.triggerLight();
+        UISoundManager.playClick(0.5f, 0.5f);
+        addLog("\u2602 Watered " + b.plots + " plots! (2\u00D7 speed)", ACCENT_BLUE);
     }
 
     /** Bulk harvest — harvests all fully-grown crops. */
     private void onHarvestAll() {
-        int count = 0;
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (cropType[i] >= 0 && cropGrowth[i] >= 1.0f) {
-                selectPlot(i);
-                onHarvest();
-                count++;
-            }
-        }
-        if (count == 0) {
+        cancelPrestigeConfirm();  // v7
+        int before = harvestCount.get();
+        beforeBatch();
+        FarmBatch b = FarmBatch.harvestAll(farmData, simulation, journal);
+        if (b.plots == 0) {
             addLog("\u2716 Nothing to harvest!", LOG_ERR);
             UISoundManager.playBoundary();
-        } else {
-            addLog("\u2B50 Harvested " + count + " crops! (Shift+H)", ACCENT_GOLD);
+            return;
+        }
+        goldState.set(goldState.get() + b.gold);
+        harvestCount.set(before + b.plots);
+        afterBatch(AnimationTable.HARVEST, 500, EasingType.EASE_OUT);
+        shakeHelper.triggerHeavy();
+
+        String luckyText = b.lucky > 0 ? " (" + b.lucky + " lucky)" : "";
+        FloatingText.show("+" + b.gold + "g", FloatingText.Anchor.TOP_CENTER,
+                b.lucky > 0 ? ACCENT_PURPLE : ACCENT_GOLD, 1000L);
+        UISoundManager.playCelebration();
+        addLog("\u2B50 Harvested " + b.plots + " crops! +" + b.gold + "g" + luckyText, ACCENT_GOLD);
+        addLog("  \u2709 " + cropSummary(b) + " \u2192 crop bank (" + totalBankCount() + " total)", TEXT_MUTED);
+        sendChat(Formatting.GREEN + "\u2714 Harvested " + b.plots + " crops +" + b.gold + "g" + luckyText
+                + " (Total: " + goldState.get() + "g)");
+
+        // One milestone line for however many multiples of 5 the batch crossed
+        if (harvestCount.get() / 5 > before / 5) {
+            addLog("\u2605 MILESTONE: " + harvestCount.get() + " harvested!", LOG_MILESTONE);
+        }
+        if (harvestCount.get() >= PRESTIGE_HARVEST_REQ && farmData.prestigeLevel == 0) {
+            addLog("\u2605 Prestige available! Check Shop P3.", LOG_MILESTONE);
+        }
+    }
+
+    /** Bulk replant — refills every empty plot with its last crop while gold lasts. */
+    private void onReplantAll() {
+        cancelPrestigeConfirm();  // v7
+        beforeBatch();
+        FarmBatch b = FarmBatch.replantAll(farmData, simulation, journal, goldState.get());
+        if (b.plots == 0) {
+            addLog(b.unaffordable > 0 ? "\u2716 Not enough gold to replant!" : "\u2716 Nothing to replant!", LOG_ERR);
+            UISoundManager.playBoundary();
+            return;
         }
+        goldState.set(goldState.get() + b.gold);
+        afterBatch(AnimationTable.PLANT, 350, EasingType.EASE_OUT_BACK);
+        shakeHelper.triggerMedium();
+        FloatingText.show(b.gold + "g", FloatingText.Anchor.TOP_CENTER, LOG_ERR, 900L);
+        UISoundManager.playCreate();
+        addLog("\u21BB Replanted " + b.plots + " plots (" + b.gold + "g)", ACCENT_GREEN);
+        if (b.unaffordable > 0) addLog("  \u26A0 " + b.unaffordable + " left empty \u2014 not enough gold", LOG_WARN);
+        if (farmData.autoWater) addLog("\u2602 Auto-watered! (2\u00D7 speed)", ACCENT_BLUE);
+    }
+
+    /** What a visible plot looks like to a batch: crop, watered, ripe. */
+    private int cellState(int i) {
+        return (plots.type[i] + 1) << 2 | (plots.watered[i] ? 2 : 0) | (plots.growth[i] >= 1.0f ? 1 : 0);
+    }
+
+    /** Remember the visible page's plot states so {@link #afterBatch} can tell which changed. */
+    private void beforeBatch() {
+        for (int s = 0; s < GRID_CELLS; s++) {
+            int i = plotAt(s);
+            batchBefore[s] = i < plots.size() ? cellState(i) : -1;
+        }
+    }
+
+    /** Rebind the visible page once and animate the plots on it the batch changed. */
+    private void afterBatch(int anim, int durationMs, EasingType easing) {
+        for (int s = 0; s < GRID_CELLS; s++) {
+            int i = plotAt(s);
+            if (i >= plots.size()) break;
+            if (cellState(i) == batchBefore[s]) continue;
+            bindCell(s, true);
+            anims.start(AnimationTable.cell(s, anim), durationMs, easing);
+        }
+        updatePlotHighlight();
+        updateSelectedInfo();
+    }
+
+    /** "3 Wheat, 1 Melon" for a batch's per-crop counts. */
+    private static String cropSummary(FarmBatch b) {
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0; c < CROP_COUNT; c++) {
+            if (b.perCrop[c] == 0) continue;
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(b.perCrop[c]).append(' ').append(CROP_NAMES[c]);
+        }
+        return sb.toString();
     }
 
     private void onHarvest() {
         cancelPrestigeConfirm();  // v7
         int p = selectedPlot;
-        if (cropType[p] < 0) {
+        simulation.sync(p);
+        if (plots.type[p] < 0) {
             addLog("\u2716 Nothing to harvest!", LOG_ERR);
             UISoundManager.playError();
             shakeHelper.triggerLight();
             return;
         }
-        if (cropGrowth[p] < 1.0f) {
-            int pct = (int) (cropGrowth[p] * 100);
+        if (plots.growth[p] < 1.0f) {
+            int pct = (int) (plots.growth[p] * 100);
             addLog("\u26A0 Not ready (" + pct + "% grown)", LOG_WARN);
             UISoundManager.playBoundary();
             return;
         }
 
-        int type = cropType[p];
-        int reward = REWARD_MIN[type] + rng.nextInt(REWARD_MAX[type] - REWARD_MIN[type] + 1);
-        if (farmData.goldMagnet) reward = reward + reward / 2;  // Gold Magnet: +50%
-        reward = (int)(reward * (1.0f + 0.2f * farmData.qualityLevel));  // v6: Crop Quality bonus
-        reward = (int)(reward * (1.0f + 0.15f * farmData.prestigeLevel)); // v6: Prestige bonus
+        FarmEvents.Harvest event = new FarmEvents.Harvest();
+        event.begin();
+        int type = plots.type[p];
+        int reward = FarmRules.rollReward(farmData, type, farmData.rng);  // magnet, quality, prestige
 
         // v6: Lucky Harvest — chance for 2× reward
-        boolean luckyProc = false;
-        if (farmData.luckyLevel > 0 && rng.nextFloat() < farmData.luckyLevel * 0.10f) {
-            reward *= 2;
-            luckyProc = true;
-        }
+        boolean luckyProc = FarmRules.rollLucky(farmData, farmData.rng);
+        if (luckyProc) reward *= 2;
 
         String name = CROP_NAMES[type];
         goldState.set(goldState.get() + reward);
@@ -1688,23 +1775,23 @@ public class SampleMenuScreen extends Screen {
         farmData.cropBank[type]++;
 
         // Reset plot
-        cropType[p]   = -1;
-        cropGrowth[p] = 0f;
-        watered[p]    = false;
-        plotCells[p].setBackgroundColor(PLOT_EMPTY);
-        plotCells[p].setBorderColor(DIVIDER_COL);
-        growthBars[p].setProgress(0f);
-        growthBars[p].snapTo(0f);
-        growthBars[p].setBarColor(ACCENT_GREEN);
-        plotLabels[p].setText("\u2022 Empty");
-        plotLabels[p].setColor(TEXT_DIM);
-        updatePlotTooltip(p);
+        journal.harvest(p, reward);
+        plots.clear(p);
+        simulation.replan(p);
+        refreshPlot(p, true);
         updatePlotHighlight();
+        if (event.shouldCommit()) {
+            event.farm   = farmData.farmName;
+            event.plot   = p;
+            event.crop   = name;
+            event.reward = reward;
+            event.lucky  = luckyProc;
+            event.commit();
+        }
 
         // Big harvest animation + haptic shake
-        AnimationTicker anim = AnimationTicker.getInstance();
-        anim.start("harvest_" + p, 0f, 1f, 500, EasingType.EASE_OUT);
-        anim.start("cell_flash_" + p, 0f, 1f, 400, EasingType.EASE_OUT);
+        animatePlot(p, AnimationTable.HARVEST, 500, EasingType.EASE_OUT);
+        animatePlot(p, AnimationTable.CELL_FLASH, 400, EasingType.EASE_OUT);
         shakeHelper.triggerHeavy();
 
         // Toast notification
@@ -1728,20 +1815,23 @@ public class SampleMenuScreen extends Screen {
             shakeHelper.triggerHeavy();
         }
         // v6: Check if prestige is now available
-        if (farmData.harvests >= PRESTIGE_HARVEST_REQ && farmData.prestigeLevel == 0) {
+        if (harvestCount.get() >= PRESTIGE_HARVEST_REQ && farmData.prestigeLevel == 0) {
             addLog("\u2605 Prestige available! Check Shop P3.", LOG_MILESTONE);
         }
     }
 
     private void selectPlot(int idx) {
         if (idx == selectedPlot) return;  // already selected
-        int prev = selectedPlot;
         selectedPlot = idx;
-        updatePlotHighlight();
+        if (idx / GRID_CELLS != plotPage) {
+            showGridPage(idx / GRID_CELLS);
+        } else {
+            updatePlotHighlight();
+        }
         updateSelectedInfo();
 
         // Selection pulse animation
-        AnimationTicker.getInstance().start("select_pulse", 0f, 1f, 300, EasingType.EASE_OUT);
+        anims.start(AnimationTable.SELECT_PULSE, 300, EasingType.EASE_OUT);
         shakeHelper.triggerLight();  // v1.8.0: light tap
 
         // Soft select sound
@@ -1749,8 +1839,7 @@ public class SampleMenuScreen extends Screen {
 
         // If picker mode was open, update info text
         if (cropPickerMode) {
-            selectedInfo.setText("\u25BC Choose crop for Plot " + (idx + 1) + ":");
-            selectedInfo.setColor(ACCENT_GREEN);
+            showInfo("\u25BC Choose crop for Plot " + (idx + 1) + ":", ACCENT_GREEN);
         }
     }
 
@@ -1758,46 +1847,168 @@ public class SampleMenuScreen extends Screen {
     //  HELPERS
     // ═══════════════════════════════════════════════════════════════════
 
+    // ── Grid paging: cell slot ↔ plot index ──────────────────────────
+
+    private int pageCount() {
+        return (plots.size() + GRID_CELLS - 1) / GRID_CELLS;
+    }
+
+    /** Plot shown in grid cell {@code slot} (may be ≥ plot count on the last page). */
+    private int plotAt(int slot) {
+        return plotPage * GRID_CELLS + slot;
+    }
+
+    /** Grid cell showing plot {@code i}, or -1 if it is not on the current page. */
+    private int slotOf(int i) {
+        int slot = i - plotPage * GRID_CELLS;
+        return (slot >= 0 && slot < GRID_CELLS) ? slot : -1;
+    }
+
+    /** Start a cell animation for plot {@code i}; nothing if it is off the current page. */
+    private void animatePlot(int i, int kind, int durationMs, EasingType easing) {
+        int slot = slotOf(i);
+        if (slot >= 0) anims.start(AnimationTable.cell(slot, kind), durationMs, easing);
+    }
+
+    /** Switch the grid to {@code page} and rebind every cell. */
+    private void showGridPage(int page) {
+        int newPage = Math.max(0, Math.min(page, pageCount() - 1));
+        if (newPage != plotPage) anims.cancelCells();  // don't carry a flash over to another plot
+        plotPage = newPage;
+        for (int s = 0; s < GRID_CELLS; s++) bindCell(s, true);
+        updatePlotHighlight();
+        updateGridNav();
+    }
+
+    /** Page the grid by {@code delta}, selecting the first plot of the new page. */
+    private void pageGrid(int delta) {
+        int pages = pageCount();
+        if (pages <= 1) return;
+        int page = (plotPage + delta + pages) % pages;
+        showGridPage(page);
+        selectPlot(page * GRID_CELLS);
+        UISoundManager.playSelect();
+    }
+
+    private void updateGridNav() {
+        boolean show = pageCount() > 1 && !shopMode && !cropPickerMode;
+        gridPrevBtn.setVisible(show);
+        gridNextBtn.setVisible(show);
+        gridPrevBtn.setEnabled(show);
+        gridNextBtn.setEnabled(show);
+    }
+
+    private void setCellVisible(int slot, boolean visible) {
+        plotCells[slot].setVisible(visible);
+        growthBars[slot].setVisible(visible);
+        plotLabels[slot].setVisible(visible);
+        plotNumLabels[slot].setVisible(visible);
+    }
+
+    /**
+     * Sync cell {@code slot}'s widgets from the plot it shows, or hide it
+     * past the last plot. {@code snap} jumps the bar instead of easing.
+     */
+    private void bindCell(int slot, boolean snap) {
+        int i = plotAt(slot);
+        if (i >= plots.size()) {
+            setCellVisible(slot, false);
+            return;
+        }
+        setCellVisible(slot, !shopMode);
+        simulation.sync(i);
+        plotNumLabels[slot].setText("Plot " + (i + 1));
+        if (plots.type[i] < 0) {
+            plotCells[slot].setBackgroundColor(PLOT_EMPTY);
+            plotCells[slot].setBorderColor(DIVIDER_COL);
+            growthBars[slot].setBarColor(ACCENT_GREEN);
+        } else if (plots.growth[i] >= 1.0f) {
+            plotCells[slot].setBackgroundColor(PLOT_READY);
+            plotCells[slot].setBorderColor(ACCENT_GOLD);
+            growthBars[slot].setBarColor(ACCENT_GOLD);
+        } else {
+            plotCells[slot].setBackgroundColor(PLOT_PLANTED);
+            growthBars[slot].setBarColor(waterBarColor(i));
+        }
+        growthBars[slot].setProgress(plots.growth[i]);
+        if (snap) growthBars[slot].snapTo(plots.growth[i]);
+        updatePlotLabel(i);
+        updatePlotTooltip(i);
+    }
+
+    /** Refresh plot {@code i}'s cell if it is on the current page. */
+    private void refreshPlot(int i) {
+        refreshPlot(i, false);
+    }
+
+    private void refreshPlot(int i, boolean snap) {
+        int slot = slotOf(i);
+        if (slot >= 0) bindCell(slot, snap);
+    }
+
     private void updatePlotLabel(int i) {
-        if (cropType[i] < 0) {
-            plotLabels[i].setText("\u2022 Empty");
-            plotLabels[i].setColor(TEXT_DIM);
+        int slot = slotOf(i);
+        if (slot < 0) return;
+        int type = plots.type[i];
+        int pct = PlotTextCache.percent(plots.growth[i]);
+        boolean ready = plots.growth[i] >= 1.0f;
+        int key = PlotTextCache.labelKey(type, pct, ready);
+        if (key == cellLabelKey[slot]) return;  // same text on screen already
+        cellLabelKey[slot] = key;
+        if (type < 0) {
+            plotLabels[slot].setText(PlotTextCache.EMPTY_LABEL);
+            plotLabels[slot].setColor(TEXT_DIM);
         } else {
-            int pct = (int) (cropGrowth[i] * 100);
-            String sym = CROP_SYMBOLS[cropType[i]];
-            String name = CROP_NAMES[cropType[i]];
-            plotLabels[i].setText(sym + " " + name + " " + pct + "%");
-            plotLabels[i].setColor(cropGrowth[i] >= 1.0f ? ACCENT_GOLD : CROP_COLORS[cropType[i]]);
+            plotLabels[slot].setText(PLOT_TEXT.label(type, pct));
+            plotLabels[slot].setColor(ready ? ACCENT_GOLD : CROP_COLORS[type]);
         }
     }
 
+    /** Growth bar colour for a growing plot: purple = Lucky Water, blue = watered. */
+    private int waterBarColor(int i) {
+        if (!plots.watered[i]) return ACCENT_GREEN;
+        return plots.lucky[i] ? ACCENT_PURPLE : ACCENT_BLUE;
+    }
+
     private void updatePlotTooltip(int i) {
-        if (cropType[i] < 0) {
-            plotCells[i].setTooltip("Plot " + (i + 1) + ": Empty", "Click to select, then plant!");
+        int slot = slotOf(i);
+        if (slot < 0) return;
+        int type = plots.type[i];
+        int pct = PlotTextCache.percent(plots.growth[i]);
+        boolean ready = plots.growth[i] >= 1.0f;
+        long key = PlotTextCache.tooltipKey(i, type, pct, plots.watered[i], ready);
+        if (key == cellTooltipKey[slot]) return;
+        cellTooltipKey[slot] = key;
+        // Title only depends on plot + crop — rebuilt when those change, not per percent
+        long titleKey = (long) i << 8 | (type + 1);
+        if (titleKey != cellTitleKey[slot]) {
+            cellTitleKey[slot] = titleKey;
+            cellTitle[slot] = "Plot " + (i + 1) + ": " + (type < 0 ? "Empty" : CROP_NAMES[type]);
+        }
+        if (type < 0) {
+            plotCells[slot].setTooltip(cellTitle[slot], PlotTextCache.EMPTY_HINT);
         } else {
-            int pct = (int) (cropGrowth[i] * 100);
-            String status = cropGrowth[i] >= 1.0f ? "\u2714 Ready to harvest!"
-                    : (watered[i] ? "\u2602 Watered (2\u00D7 growth)" : "Growing...");
-            String reward = "Reward: " + REWARD_MIN[cropType[i]] + "-" + REWARD_MAX[cropType[i]] + "g";
-            plotCells[i].setTooltip(
-                    "Plot " + (i + 1) + ": " + CROP_NAMES[cropType[i]],
-                    "Growth: " + pct + "%",
-                    status,
-                    reward);
+            plotCells[slot].setTooltip(
+                    cellTitle[slot],
+                    PLOT_TEXT.growthLine(pct),
+                    PlotTextCache.statusLine(plots.watered[i], ready),
+                    PLOT_TEXT.rewardLine(type));
         }
     }
 
     private void updatePlotHighlight() {
-        for (int i = 0; i < NUM_PLOTS; i++) {
+        for (int s = 0; s < GRID_CELLS; s++) {
+            int i = plotAt(s);
+            if (i >= plots.size()) break;
             if (i == selectedPlot) {
-                plotCells[i].setBorderColor(cropGrowth[i] >= 1.0f ? ACCENT_GOLD : ACCENT_GREEN);
-                if (cropType[i] < 0) {
-                    plotCells[i].setBackgroundColor(PLOT_SELECTED);
+                plotCells[s].setBorderColor(plots.growth[i] >= 1.0f ? ACCENT_GOLD : ACCENT_GREEN);
+                if (plots.type[i] < 0) {
+                    plotCells[s].setBackgroundColor(PLOT_SELECTED);
                 }
             } else {
-                plotCells[i].setBorderColor(cropGrowth[i] >= 1.0f ? ACCENT_GOLD : DIVIDER_COL);
-                if (cropType[i] < 0) {
-                    plotCells[i].setBackgroundColor(PLOT_EMPTY);
+                plotCells[s].setBorderColor(plots.growth[i] >= 1.0f ? ACCENT_GOLD : DIVIDER_COL);
+                if (plots.type[i] < 0) {
+                    plotCells[s].setBackgroundColor(PLOT_EMPTY);
                 }
             }
         }
@@ -1806,28 +2017,53 @@ public class SampleMenuScreen extends Screen {
     private void updateSelectedInfo() {
         if (cropPickerMode) return;  // don't overwrite picker text
         int p = selectedPlot;
-        if (cropType[p] < 0) {
-            selectedInfo.setText("\u25B6 Plot " + (p + 1) + ": Empty \u2014 Click Plant to sow!");
+        simulation.sync(p);
+        long key = PlotTextCache.tooltipKey(p, plots.type[p], PlotTextCache.percent(plots.growth[p]),
+                plots.watered[p], plots.growth[p] >= 1.0f);
+        int pageKey = plotPage << 16 | pageCount();
+        if (key == selectedInfoKey && pageKey == selectedInfoPage) return;  // called every tick
+        selectedInfoKey  = key;
+        selectedInfoPage = pageKey;
+        String page = pageCount() > 1 ? "  [" + (plotPage + 1) + "/" + pageCount() + "]" : "";
+        if (plots.type[p] < 0) {
+            selectedInfo.setText("\u25B6 Plot " + (p + 1) + ": Empty \u2014 Click Plant to sow!" + page);
             selectedInfo.setColor(TEXT_MUTED);
         } else {
-            int pct = (int) (cropGrowth[p] * 100);
-            String w = watered[p] ? " \u2602" : "";
-            String ready = cropGrowth[p] >= 1.0f ? " \u2714 READY!" : "";
+            int pct = (int) (plots.growth[p] * 100);
+            String w = plots.watered[p] ? " \u2602" : "";
+            String ready = plots.growth[p] >= 1.0f ? " \u2714 READY!" : "";
             selectedInfo.setText("\u25B6 P" + (p + 1) + ": "
-                    + CROP_NAMES[cropType[p]] + " " + pct + "%" + w + ready);
-            selectedInfo.setColor(cropGrowth[p] >= 1.0f ? ACCENT_GOLD : CROP_COLORS[cropType[p]]);
+                    + CROP_NAMES[plots.type[p]] + " " + pct + "%" + w + ready + page);
+            selectedInfo.setColor(plots.growth[p] >= 1.0f ? ACCENT_GOLD : CROP_COLORS[plots.type[p]]);
         }
     }
 
-    /** Oldest entry scrolls off; newest at bottom. */
+    /** Show a mode/header message in the info line (replaces the selected-plot text). */
+    private void showInfo(String text, int color) {
+        selectedInfo.setText(text);
+        selectedInfo.setColor(color);
+        selectedInfoKey = -1;  // next updateSelectedInfo() must redraw
+    }
+
+    /** Newest at bottom; once the log is full the oldest entry is overwritten. */
     private void addLog(String text, int color) {
-        for (int i = 0; i < LOG_MAX - 1; i++) {
-            logText[i]  = logText[i + 1];
-            logColor[i] = logColor[i + 1];
+        activityLog.add(text, color);
+        // Scrolled back: keep the same entries in view instead of jumping
+        if (logScroll > 0) logScroll = Math.min(logScroll + 1, maxLogScroll());
+    }
+
+    private int maxLogScroll() {
+        return Math.max(0, activityLog.size() - LOG_ROWS);
+    }
+
+    /** Scroll the Log tab by {@code rows} (positive = older). */
+    private void scrollLog(int rows) {
+        int s = Math.max(0, Math.min(logScroll + rows, maxLogScroll()));
+        if (s == logScroll) {
+            UISoundManager.playBoundary();
+            return;
         }
-        logText[LOG_MAX - 1]  = text;
-        logColor[LOG_MAX - 1] = color;
-        logCount = Math.min(logCount + 1, LOG_MAX);
+        logScroll = s;
     }
 
     private String seasonSymbol(String s) {
@@ -1915,19 +2151,20 @@ public class SampleMenuScreen extends Screen {
 
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
+        long probe = Metrics.RENDER.begin();
         renderBackground(context, mouseX, mouseY, delta);
 
-        AnimationTicker anim = AnimationTicker.getInstance();
+        anims.frame();
         var tr = MinecraftClient.getInstance().textRenderer;
         int cx = px + PAD;
 
         // ── Season-change flash (full screen tint) ───────────────────
-        if (anim.isActive("season_flash")) {
-            float a = anim.get("season_flash", 0f);
+        if (anims.isActive(AnimationTable.SEASON_FLASH)) {
+            float a = anims.get(AnimationTable.SEASON_FLASH, 0f);
             int alpha = (int) (a * 35);
             if (alpha > 0) {
                 ProceduralRenderer.fillRect(context, 0, 0, this.width, this.height,
-                        ProceduralRenderer.withAlpha(seasonColor(SEASONS[seasonIndex]), alpha));
+                        ProceduralRenderer.withAlpha(SEASON_COLORS[farmData.seasonIndex], alpha));
             }
         }
 
@@ -1942,79 +2179,69 @@ public class SampleMenuScreen extends Screen {
         }
 
         // ── Seasonal panel tint — subtle color wash per season ───────
-        int seasonTint = switch (seasonIndex) {
-            case 0 -> 0x0840C040;  // Spring: faint green
-            case 1 -> 0x0AFFD700;  // Summer: warm gold
-            case 2 -> 0x08FF8C00;  // Autumn: soft orange
-            case 3 -> 0x0A6EC6FF;  // Winter: cool blue
-            default -> 0x00000000;
-        };
-        if (seasonTint != 0) {
-            ProceduralRenderer.fillRoundedRect(context,
-                    px + 2, py + 2, PW - 4, PH - 4, 7, seasonTint);
-        }
+        panelLayer.seasonWash(context, px + 2, py + 2, PW - 4, PH - 4, SEASON_TINTS[farmData.seasonIndex]);
 
         // ── Hover glow on plot cells (skip in shop mode) ─────────────
-        if (!shopMode) for (int i = 0; i < NUM_PLOTS; i++) {
-            boolean hovered = plotCells[i].isHovered(adjMX, adjMY);
+        int hoverSlot = plotGrid.slotAt(adjMX, adjMY);
+        if (!shopMode) for (int s = 0; s < GRID_CELLS; s++) {
+            int i = plotAt(s);
+            if (i >= plots.size()) break;
+            boolean hovered = s == hoverSlot;
             boolean selected = (i == selectedPlot);
 
             // Hover glow (non-selected cells)
             if (hovered && !selected) {
-                ProceduralRenderer.fillRoundedRect(context,
-                        cellXPos[i], cellYPos[i], CELL_W, CELL_H, 5,
-                        0x18FFFFFF);
+                panelLayer.hoverGlow(context, cellXPos[s], cellYPos[s]);
             }
 
             // Selection pulse glow
-            if (selected && anim.isActive("select_pulse")) {
-                float pulse = anim.get("select_pulse", 0f);
+            if (selected && anims.isActive(AnimationTable.SELECT_PULSE)) {
+                float pulse = anims.get(AnimationTable.SELECT_PULSE, 0f);
                 int ga = (int) ((1f - pulse) * 50);
                 if (ga > 0) {
                     ProceduralRenderer.fillRoundedRect(context,
-                            cellXPos[i] - 2, cellYPos[i] - 2,
+                            cellXPos[s] - 2, cellYPos[s] - 2,
                             CELL_W + 4, CELL_H + 4, 7,
                             ProceduralRenderer.withAlpha(ACCENT_GREEN, ga));
                 }
             }
 
             // Cell action flash (plant/water/harvest)
-            if (anim.isActive("cell_flash_" + i)) {
-                float f = 1f - anim.get("cell_flash_" + i, 0f);
+            int flash = AnimationTable.cell(s, AnimationTable.CELL_FLASH);
+            if (anims.isActive(flash)) {
+                float f = 1f - anims.get(flash, 0f);
                 int fa = (int) (f * 70);
                 if (fa > 0) {
-                    int flashCol = (cropType[i] >= 0 && watered[i]) ? ACCENT_BLUE
-                            : (cropType[i] >= 0) ? ACCENT_GREEN : ACCENT_GOLD;
+                    int flashCol = (plots.type[i] >= 0 && plots.watered[i]) ? ACCENT_BLUE
+                            : (plots.type[i] >= 0) ? ACCENT_GREEN : ACCENT_GOLD;
                     ProceduralRenderer.fillRoundedRect(context,
-                            cellXPos[i], cellYPos[i], CELL_W, CELL_H, 5,
+                            cellXPos[s], cellYPos[s], CELL_W, CELL_H, 5,
                             ProceduralRenderer.withAlpha(flashCol, fa));
                 }
             }
 
             // Watered tint
-            if (watered[i] && cropType[i] >= 0 && cropGrowth[i] < 1.0f) {
-                ProceduralRenderer.fillRoundedRect(context,
-                        cellXPos[i], cellYPos[i], CELL_W, CELL_H, 5,
-                        0x12589EFF);
+            if (plots.watered[i] && plots.type[i] >= 0 && plots.growth[i] < 1.0f) {
+                panelLayer.wateredTint(context, cellXPos[s], cellYPos[s]);
                 // Water drop indicator
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2602", cellXPos[i] + CELL_W - 14, cellYPos[i] + 3,
+                        "\u2602", cellXPos[s] + CELL_W - 14, cellYPos[s] + 3,
                         ACCENT_BLUE, 0.65f);
             }
 
             // Ready-to-harvest sparkle
-            if (cropType[i] >= 0 && cropGrowth[i] >= 1.0f) {
+            if (plots.type[i] >= 0 && plots.growth[i] >= 1.0f) {
                 float t = (tickCounter + delta) * 0.12f;
                 // Animated star at varying positions
-                int starX1 = cellXPos[i] + CELL_W - 14;
-                int starY1 = cellYPos[i] + 2 + (int) (Math.sin(t + i) * 3);
+                int starX1 = cellXPos[s] + CELL_W - 14;
+                int starY1 = cellYPos[s] + 2 + (int) (Math.sin(t + i) * 3);
                 int starAlpha = 120 + (int) (Math.sin(t * 1.5 + i * 2) * 100);
                 ProceduralRenderer.drawScaledText(context, tr, "\u2726",
                         starX1, starY1,
                         ProceduralRenderer.withAlpha(ACCENT_GOLD, Math.max(20, starAlpha)), 0.7f);
                 // Second sparkle
-                int starX2 = cellXPos[i] + 4;
-                int starY2 = cellYPos[i] + CELL_H - 14 + (int) (Math.cos(t * 0.8 + i) * 2);
+                int starX2 = cellXPos[s] + 4;
+                int starY2 = cellYPos[s] + CELL_H - 14 + (int) (Math.cos(t * 0.8 + i) * 2);
                 ProceduralRenderer.drawScaledText(context, tr, "\u2605",
                         starX2, starY2,
                         ProceduralRenderer.withAlpha(ACCENT_GOLD_H, Math.max(20, 220 - starAlpha)), 0.55f);
@@ -2022,57 +2249,20 @@ public class SampleMenuScreen extends Screen {
         }
 
         // ── Dividers ─────────────────────────────────────────────────
-        ProceduralRenderer.drawDivider(context, cx, py + DIV1_DY, IW, DIVIDER_COL);
-        if (!shopMode) {
-            ProceduralRenderer.drawDivider(context, cx, py + DIV2_DY, IW, DIVIDER_COL);
-        }
-        ProceduralRenderer.drawDivider(context, cx, py + DIV3_DY, IW, DIVIDER_COL);
+        panelLayer.dividers(context, !shopMode);
 
         // ── Shop panel (renders in the grid area when shop is open) ──
         if (shopMode) {
             // Background tint for shop area
-            ProceduralRenderer.fillRoundedRect(context,
-                    cx + 2, py + GRID1_DY, IW - 4, DIV2_DY - GRID1_DY, 6,
-                    0x20B388FF);
+            panelLayer.shopBackdrop(context);
 
             // Category header
-            String[] catHeaders = {"\u2697 Consumables", "\u2B06 Permanent Upgrades", "\u2728 Advanced"};
             int catColor = shopPage == 0 ? ACCENT_GREEN : shopPage == 1 ? ACCENT_BLUE : ACCENT_PURPLE;
             ProceduralRenderer.drawScaledCenteredText(context, tr,
-                    catHeaders[shopPage], px + PW / 2, py + GRID1_DY + 4, catColor, 0.85f);
+                    SHOP_HEADERS[shopPage], px + PW / 2, py + GRID1_DY + 4, catColor, 0.85f);
 
             // Item descriptions (3 items per page, vertical list)
-            String[][] descriptions = {
-                    { "\u2618 Fertilizer (" + FERTILIZER_COST + "g)",
-                      "  Boosts selected crop growth by 50%.",
-                      "  Single use — applied to current plot." },
-                    { "\u2618 Super Fertilizer (" + SUPER_FERT_COST + "g)",
-                      "  Doubles growth instantly (+100%)!",
-                      "  Premium single-use consumable." },
-                    { "\u2602 Lucky Water (" + LUCKY_WATER_COST + "g)",
-                      "  3\u00D7 growth speed (vs normal 2\u00D7 water).",
-                      "  Shows purple bar while active." },
-                    // Page 1
-                    { "\u2602 Auto-Water (" + AUTO_WATER_COST + "g)",
-                      "  Crops start watered when planted.",
-                      farmData.autoWater ? "  \u2714 Already owned!" : "  One-time permanent upgrade." },
-                    { "\u2B50 Gold Magnet (" + GOLD_MAGNET_COST + "g)",
-                      "  +50% gold from every harvest.",
-                      farmData.goldMagnet ? "  \u2714 Already owned!" : "  One-time permanent upgrade." },
-                    { "\u2B06 Soil Quality (Lv" + farmData.soilLevel + "/" + MAX_UPG + ")",
-                      "  +20% growth speed per level.",
-                      farmData.soilLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g" },
-                    // Page 2
-                    { "\u2B50 Crop Quality (Lv" + farmData.qualityLevel + "/" + MAX_UPG + ")",
-                      "  +20% harvest gold per level.",
-                      farmData.qualityLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g" },
-                    { "\u2605 Lucky Harvest (Lv" + farmData.luckyLevel + "/" + MAX_UPG + ")",
-                      "  +10% chance for 2\u00D7 rewards.",
-                      farmData.luckyLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g" },
-                    { "\u2709 Export Crops",
-                      "  Convert banked crops to real MC items.",
-                      totalBankCount() > 0 ? "  \u2714 " + totalBankCount() + " crops ready to export!" : "  Bank empty \u2014 harvest crops first." },
-            };
+            refreshShopLines();
             // v7: Track hovered shop item from mouse position
             int descStartY = py + GRID1_DY + 18;
             int itemHeight = 33;
@@ -2086,41 +2276,37 @@ public class SampleMenuScreen extends Screen {
             int descY = py + GRID1_DY + 18;
             for (int item = 0; item < 3; item++) {
                 int idx = pageStart + item;
-                String[] lines = descriptions[idx];
+                boolean hovered = item == shopHoveredItem;
 
                 // v7: Hover highlight background
-                if (item == shopHoveredItem) {
+                if (hovered) {
                     ProceduralRenderer.fillRoundedRect(context,
                             cx + 3, descY - 2, IW - 6, itemHeight - 2, 4,
                             0x30FFFFFF);
                 }
 
                 // Item number + title (show [1] [2] [3] prefixes)
-                String prefix = "[" + (item + 1) + "] ";
-                int titleColor = (item == shopHoveredItem) ? catColor : TEXT_PRIMARY;
+                int titleColor = hovered ? catColor : TEXT_PRIMARY;
                 ProceduralRenderer.drawScaledText(context, tr,
-                        prefix + lines[0], cx + 8, descY, titleColor, 0.7f);
+                        shopTitle[idx], cx + 8, descY, titleColor, 0.7f);
                 descY += 10;
                 // Description line 1
                 ProceduralRenderer.drawScaledText(context, tr,
-                        lines[1], cx + 8, descY, TEXT_MUTED, 0.6f);
+                        shopDesc[idx], cx + 8, descY, TEXT_MUTED, 0.6f);
                 descY += 9;
                 // Description line 2 (status/cost) + click hint on hover
-                int statusCol = lines[2].contains("\u2714") ? ACCENT_GREEN : TEXT_DIM;
-                String line3 = lines[2];
-                if (item == shopHoveredItem && !lines[2].contains("\u2714")) {
-                    line3 += "  \u25B6 Click to buy!";
-                    statusCol = catColor;
-                }
+                boolean owned = shopOwned[idx];
+                int statusCol = owned ? ACCENT_GREEN : hovered ? catColor : TEXT_DIM;
                 ProceduralRenderer.drawScaledText(context, tr,
-                        line3, cx + 8, descY, statusCol, 0.6f);
+                        hovered && !owned ? shopStatusHover[idx] : shopStatus[idx],
+                        cx + 8, descY, statusCol, 0.6f);
                 descY += 14;  // extra gap between items
             }
         }
 
         // ── Gold flash overlay on balance bar ────────────────────────
-        if (anim.isActive("gold_flash")) {
-            float f = 1f - anim.get("gold_flash", 0f);
+        if (anims.isActive(AnimationTable.GOLD_FLASH)) {
+            float f = 1f - anims.get(AnimationTable.GOLD_FLASH, 0f);
             int fa = (int) (f * 40);
             if (fa > 0) {
                 ProceduralRenderer.fillRoundedRect(context,
@@ -2142,16 +2328,28 @@ public class SampleMenuScreen extends Screen {
                 ProceduralRenderer.drawScaledCenteredText(context, tr,
                         "\u2500\u2500 Activity Log \u2500\u2500",
                         px + PW / 2, py + LOG_HDR_DY, TEXT_DIM, 0.75f);
-                for (int i = 0; i < LOG_MAX; i++) {
-                    if (logText[i] != null) {
-                        float fade = (float) (i + 1) / LOG_MAX;
-                        int entryColor = ProceduralRenderer.lerpColor(
-                                ProceduralRenderer.withAlpha(logColor[i], 80),
-                                logColor[i], fade);
-                        ProceduralRenderer.drawScaledText(context, tr,
-                                logText[i], cx + 4, py + LOG_DY + i * 10,
-                                entryColor, 0.7f);
+                logScroll = Math.min(logScroll, maxLogScroll());  // capacity may have shrunk
+                int rows = Math.min(LOG_ROWS, activityLog.size());
+                for (int r = 0; r < rows; r++) {
+                    int back = logScroll + rows - 1 - r;  // newest at the bottom row
+                    int c = activityLog.color(back);
+                    // Fade older rows in the live view; history reads at full colour
+                    float fade = logScroll > 0 ? 1f : (float) (r + 1 + LOG_ROWS - rows) / LOG_ROWS;
+                    int entryColor = ProceduralRenderer.lerpColor(
+                            ProceduralRenderer.withAlpha(c, 80), c, fade);
+                    ProceduralRenderer.drawScaledText(context, tr,
+                            activityLog.text(back), cx + 4, py + LOG_DY + r * LOG_ROW_H,
+                            entryColor, 0.7f);
+                }
+                if (activityLog.size() > LOG_ROWS) {
+                    if (logScroll != logScrollShown) {
+                        logScrollShown = logScroll;
+                        logScrollLabel = logScroll == 0
+                                ? "\u25B2 scroll"
+                                : "\u25BC " + logScroll + " newer";
                     }
+                    ProceduralRenderer.drawScaledText(context, tr, logScrollLabel,
+                            px + PW - PAD - 40, py + LOG_HDR_DY, TEXT_DIM, 0.6f);
                 }
             }
             case 1 -> { // STATS TAB
@@ -2161,53 +2359,42 @@ public class SampleMenuScreen extends Screen {
                 int sY = py + LOG_DY;
                 int sCol1 = cx + 6;
                 int sCol2 = cx + IW / 2 + 6;
+                refreshStatsLines(bankCount);
 
                 // Row 1: Gold & Harvests
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2B50 Gold: " + goldState.get(), sCol1, sY, ACCENT_GOLD, 0.7f);
+                        statsGold, sCol1, sY, ACCENT_GOLD, 0.7f);
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2714 Harvests: " + harvestCount.get(), sCol2, sY, TEXT_MUTED, 0.7f);
+                        statsHarvests, sCol2, sY, TEXT_MUTED, 0.7f);
                 sY += 10;
 
                 // Row 2: Total Earned & Exported
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2211 Earned: " + farmData.totalGoldEarned + "g", sCol1, sY, ACCENT_GOLD, 0.7f);
+                        statsEarned, sCol1, sY, ACCENT_GOLD, 0.7f);
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2709 Exported: " + farmData.totalCropsExported, sCol2, sY, ACCENT_GREEN, 0.7f);
+                        statsExported, sCol2, sY, ACCENT_GREEN, 0.7f);
                 sY += 10;
 
                 // Row 3: Prestige & Season
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2605 Prestige: Lv" + farmData.prestigeLevel +
-                                " (+" + farmData.prestigeLevel * 15 + "%)", sCol1, sY, 0xFFDAA520, 0.7f);
+                        statsPrestige, sCol1, sY, 0xFFDAA520, 0.7f);
                 ProceduralRenderer.drawScaledText(context, tr,
-                        seasonSymbol(SEASONS[seasonIndex]) + " " + SEASONS[seasonIndex], sCol2, sY,
-                        seasonColor(SEASONS[seasonIndex]), 0.7f);
+                        statsSeason, sCol2, sY, SEASON_COLORS[farmData.seasonIndex], 0.7f);
                 sY += 10;
 
                 // Row 4: Upgrade levels + bank
                 ProceduralRenderer.drawScaledText(context, tr,
-                        "\u2B06 Soil:" + farmData.soilLevel + " Qual:" + farmData.qualityLevel +
-                                " Lucky:" + farmData.luckyLevel +
-                                "  \u2709 Bank:" + (bankCount > 0 ? bankCount : "empty"),
-                        sCol1, sY, ACCENT_PURPLE, 0.6f);
+                        statsUpgrades, sCol1, sY, ACCENT_PURPLE, 0.6f);
             }
             case 2 -> { // GUIDE TAB
                 ProceduralRenderer.drawScaledCenteredText(context, tr,
                         "\u2500\u2500 Gameplay Guide \u2500\u2500",
                         px + PW / 2, py + LOG_HDR_DY, TEXT_DIM, 0.75f);
                 int gY = py + LOG_DY;
-                String[] tips = {
-                        "\u2618 P=Plant  W=Water  H=Harvest  S=Shop",
-                        "\u2B50 Shift+W=Water All  Shift+H=Harvest All",
-                        "\u21BB Double-click plot = harvest + replant!",
-                        "\u2B06 Shop: click items or press 1/2/3 to buy",
-                        "\u2605 Prestige at " + PRESTIGE_HARVEST_REQ + " harvests (+15%)",
-                };
-                for (int i = 0; i < tips.length; i++) {
+                for (int i = 0; i < GUIDE_TIPS.length; i++) {
                     int tipColor = i % 2 == 0 ? TEXT_MUTED : 0xFFB0B8C4;
                     ProceduralRenderer.drawScaledText(context, tr,
-                            tips[i], cx + 4, gY + i * 10, tipColor, 0.65f);
+                            GUIDE_TIPS[i], cx + 4, gY + i * 10, tipColor, 0.65f);
                 }
             }
         }
@@ -2220,14 +2407,161 @@ public class SampleMenuScreen extends Screen {
         if (root != null) {
             UIComponent.renderTooltip(context, root, mouseX, mouseY);
         }
+
+        // ── Debug overlay (F6) ───────────────────────────────────────
+        if (debugOverlay) {
+            int y = 4;
+            for (String line : Metrics.overlayLines()) {
+                ProceduralRenderer.drawScaledText(context, tr, line, 4, y, TEXT_MUTED, 0.7f);
+                y += 7;
+            }
+            ProceduralRenderer.drawScaledText(context, tr, PanelLayer.statsLine(), 4, y, TEXT_MUTED, 0.7f);
+        }
+        Metrics.RENDER.end(probe);
+        if (openStart != 0) firstFrameDrawn();
+    }
+
+    /** Record open → first frame, and say so if it blew the one-frame budget. */
+    private void firstFrameDrawn() {
+        long nanos = System.nanoTime() - openStart;
+        openStart = 0;
+        Metrics.OPEN.record(nanos);
+        lastOpenNanos = nanos;
+        lastOpenWarm  = warmOpen;
+        if (nanos > worstOpenLogged) {  // a screen that always misses logs once, then only when worse
+            worstOpenLogged = nanos;
+            SampleModClient.LOGGER.warn("[TestCoreMod] Screen open over budget \u2014 {}", lastOpenLine());
+        }
+    }
+
+    private static String lastOpenLine() {
+        if (lastOpenNanos < 0) return "Screen open: not yet measured.";
+        return String.format("Screen open: %.2f ms to first frame (%s, budget %.1f ms).",
+                lastOpenNanos / 1e6, lastOpenWarm ? "warm" : "cold", OPEN_BUDGET_NANOS / 1e6);
+    }
+
+    /** Rebuild the shop description lines if a price, ownership flag or the bank changed. */
+    private void refreshShopLines() {
+        int bank = totalBankCount();
+        long key = (long) bank << 12
+                | (farmData.autoWater ? 1 : 0) | (farmData.goldMagnet ? 2 : 0)
+                | farmData.soilLevel << 2 | farmData.qualityLevel << 5 | farmData.luckyLevel << 8;
+        if (key == shopLinesKey) return;
+        shopLinesKey = key;
+
+        // Page 0
+        setShopLines(0, "\u2618 Fertilizer (" + FERTILIZER_COST + "g)",
+                "  Boosts selected crop growth by 50%.",
+                "  Single use \u2014 applied to current plot.");
+        setShopLines(1, "\u2618 Super Fertilizer (" + SUPER_FERT_COST + "g)",
+                "  Doubles growth instantly (+100%)!",
+                "  Premium single-use consumable.");
+        setShopLines(2, "\u2602 Lucky Water (" + LUCKY_WATER_COST + "g)",
+                "  3\u00D7 growth speed (vs normal 2\u00D7 water).",
+                "  Shows purple bar while active.");
+        // Page 1
+        setShopLines(3, "\u2602 Auto-Water (" + AUTO_WATER_COST + "g)",
+                "  Crops start watered when planted.",
+                farmData.autoWater ? "  \u2714 Already owned!" : "  One-time permanent upgrade.");
+        setShopLines(4, "\u2B50 Gold Magnet (" + GOLD_MAGNET_COST + "g)",
+                "  +50% gold from every harvest.",
+                farmData.goldMagnet ? "  \u2714 Already owned!" : "  One-time permanent upgrade.");
+        setShopLines(5, "\u2B06 Soil Quality (Lv" + farmData.soilLevel + "/" + MAX_UPG + ")",
+                "  +20% growth speed per level.",
+                farmData.soilLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(SOIL_BASE, farmData.soilLevel) + "g");
+        // Page 2
+        setShopLines(6, "\u2B50 Crop Quality (Lv" + farmData.qualityLevel + "/" + MAX_UPG + ")",
+                "  +20% harvest gold per level.",
+                farmData.qualityLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(QUALITY_BASE, farmData.qualityLevel) + "g");
+        setShopLines(7, "\u2605 Lucky Harvest (Lv" + farmData.luckyLevel + "/" + MAX_UPG + ")",
+                "  +10% chance for 2\u00D7 rewards.",
+                farmData.luckyLevel >= MAX_UPG ? "  \u2714 MAX level!" : "  Next: " + upgradeCost(LUCKY_BASE, farmData.luckyLevel) + "g");
+        setShopLines(8, "\u2709 Export Crops",
+                "  Convert banked crops to real MC items.",
+                bank > 0 ? "  \u2714 " + bank + " crops ready to export!" : "  Bank empty \u2014 harvest crops first.");
+    }
+
+    private void setShopLines(int idx, String title, String desc, String status) {
+        shopTitle[idx]       = "[" + (idx % 3 + 1) + "] " + title;
+        shopDesc[idx]        = desc;
+        shopStatus[idx]      = status;
+        shopOwned[idx]       = status.contains("\u2714");
+        shopStatusHover[idx] = status + SHOP_CLICK_HINT;
+    }
+
+    /** Rebuild the Stats tab lines if any value they show changed. */
+    private void refreshStatsLines(int bankCount) {
+        boolean changed = statsChanged(0, goldState.get())
+                | statsChanged(1, harvestCount.get())
+                | statsChanged(2, farmData.totalGoldEarned)
+                | statsChanged(3, farmData.totalCropsExported)
+                | statsChanged(4, farmData.prestigeLevel)
+                | statsChanged(5, farmData.seasonIndex)
+                | statsChanged(6, farmData.soilLevel)
+                | statsChanged(7, farmData.qualityLevel)
+                | statsChanged(8, farmData.luckyLevel)
+                | statsChanged(9, bankCount);
+        if (!changed && statsGold != null) return;
+        String season = SEASONS[farmData.seasonIndex];
+        statsGold     = "\u2B50 Gold: " + goldState.get();
+        statsHarvests = "\u2714 Harvests: " + harvestCount.get();
+        statsEarned   = "\u2211 Earned: " + farmData.totalGoldEarned + "g";
+        statsExported = "\u2709 Exported: " + farmData.totalCropsExported;
+        statsPrestige = "\u2605 Prestige: Lv" + farmData.prestigeLevel +
+                " (+" + farmData.prestigeLevel * 15 + "%)";
+        statsSeason   = seasonSymbol(season) + " " + season;
+        statsUpgrades = "\u2B06 Soil:" + farmData.soilLevel + " Qual:" + farmData.qualityLevel +
+                " Lucky:" + farmData.luckyLevel +
+                "  \u2709 Bank:" + (bankCount > 0 ? bankCount : "empty");
+    }
+
+    private boolean statsChanged(int slot, int value) {
+        if (statsKey[slot] == value) return false;
+        statsKey[slot] = value;
+        return true;
     }
 
     // ═══════════════════════════════════════════════════════════════════
     //  INPUT — click-to-select plots, 1.21.11 signatures
     // ═══════════════════════════════════════════════════════════════════
 
+    // Input events run inside an update scope: an action's state changes
+    // reach their listeners once, after the handler returns.
+
     @Override
     public boolean mouseClicked(Click click, boolean fromKeyboard) {
+        updates.begin();
+        try {
+            return handleClick(click, fromKeyboard);
+        } finally {
+            updates.end();
+        }
+    }
+
+    @Override
+    public boolean mouseReleased(Click click) {
+        updates.begin();
+        try {
+            if (root != null && root.mouseReleased(click.x(), click.y(), click.button())) {
+                return true;
+            }
+            return super.mouseReleased(click);
+        } finally {
+            updates.end();
+        }
+    }
+
+    @Override
+    public boolean keyPressed(KeyInput keyInput) {
+        updates.begin();
+        try {
+            return handleKey(keyInput);
+        } finally {
+            updates.end();
+        }
+    }
+
+    private boolean handleClick(Click click, boolean fromKeyboard) {
         // v7: Click-to-buy in shop description area
         if (click.button() == 0 && shopMode) {
             int px = (this.width - PW) / 2;
@@ -2249,40 +2583,39 @@ public class SampleMenuScreen extends Screen {
         // consumes any click inside its bounds, so the plot check would never
         // run if we let root handle clicks first.
         // Skip plot clicks when in shop or crop picker mode
-        if (click.button() == 0 && !shopMode && !cropPickerMode) {
-            for (int i = 0; i < NUM_PLOTS; i++) {
-                if (plotCells[i].isHovered(click.x(), click.y())) {
-                    long now = System.currentTimeMillis();
-                    // Double-click detection: same plot within 400ms = smart action
-                    if (i == lastClickedPlot && (now - lastPlotClickTime) < 400) {
-                        lastClickedPlot = -1;
-                        lastPlotClickTime = 0;
-                        selectedPlot = i;  // ensure correct plot
-                        updatePlotHighlight();
-                        updateSelectedInfo();
-                        // Smart action: harvest > water > plant
-                        if (cropType[i] >= 0 && cropGrowth[i] >= 1.0f) {
-                            // v7: Auto-replant on double-click harvest
-                            int savedType = lastCropType[i];
-                            onHarvest();
-                            // If harvest succeeded (plot is now empty) and we can afford replant
-                            if (cropType[i] < 0 && savedType >= 0 && goldState.get() >= CROP_COSTS[savedType]) {
-                                plantCrop(savedType);
-                                addLog("\u21BB Auto-replanted " + CROP_NAMES[savedType] + "!", ACCENT_GREEN);
-                            }
-                        } else if (cropType[i] >= 0 && !watered[i] && cropGrowth[i] < 1.0f) {
-                            onWater();
-                        } else if (cropType[i] < 0) {
-                            onPlantClicked();
-                        }
-                        return true;
+        int clickSlot = plotGrid.slotAt(click.x(), click.y());
+        if (click.button() == 0 && !shopMode && !cropPickerMode && clickSlot >= 0
+                && plotAt(clickSlot) < plots.size()) {
+            int i = plotAt(clickSlot);
+            long now = System.currentTimeMillis();
+            // Double-click detection: same plot within 400ms = smart action
+            if (i == lastClickedPlot && (now - lastPlotClickTime) < 400) {
+                lastClickedPlot = -1;
+                lastPlotClickTime = 0;
+                selectedPlot = i;  // ensure correct plot
+                updatePlotHighlight();
+                updateSelectedInfo();
+                // Smart action: harvest > water > plant
+                if (plots.type[i] >= 0 && plots.growth[i] >= 1.0f) {
+                    // v7: Auto-replant on double-click harvest
+                    int savedType = plots.lastType[i];
+                    onHarvest();
+                    // If harvest succeeded (plot is now empty) and we can afford replant
+                    if (plots.type[i] < 0 && savedType >= 0 && goldState.get() >= CROP_COSTS[savedType]) {
+                        plantCrop(savedType);
+                        addLog("\u21BB Auto-replanted " + CROP_NAMES[savedType] + "!", ACCENT_GREEN);
                     }
-                    lastClickedPlot = i;
-                    lastPlotClickTime = now;
-                    selectPlot(i);
-                    return true;
+                } else if (plots.type[i] >= 0 && !plots.watered[i] && plots.growth[i] < 1.0f) {
+                    onWater();
+                } else if (plots.type[i] < 0) {
+                    onPlantClicked();
                 }
+                return true;
             }
+            lastClickedPlot = i;
+            lastPlotClickTime = now;
+            selectPlot(i);
+            return true;
         }
         // Then let buttons handle
         if (root != null && root.mouseClicked(click.x(), click.y(), click.button())) {
@@ -2291,65 +2624,72 @@ public class SampleMenuScreen extends Screen {
         return super.mouseClicked(click, fromKeyboard);
     }
 
-    @Override
-    public boolean mouseReleased(Click click) {
-        if (root != null && root.mouseReleased(click.x(), click.y(), click.button())) {
-            return true;
-        }
-        return super.mouseReleased(click);
-    }
-
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double hAmount, double vAmount) {
+        // Scroll over the Log tab pages through the activity history
+        if (activeTab == 0 && vAmount != 0) {
+            int py = (this.height - PH) / 2;
+            if (mouseY >= py + LOG_HDR_DY && mouseY < py + LOG_DY + LOG_ROWS * LOG_ROW_H) {
+                scrollLog(vAmount > 0 ? 1 : -1);
+                return true;
+            }
+        }
+        // Scroll over the plot grid pages through plots
+        if (!shopMode && !cropPickerMode && pageCount() > 1 && vAmount != 0) {
+            int py = (this.height - PH) / 2;
+            if (mouseY >= py + GRID1_DY && mouseY < py + GRID2_DY + CELL_H) {
+                pageGrid(vAmount > 0 ? -1 : 1);
+                return true;
+            }
+        }
         if (root != null && root.mouseScrolled(mouseX, mouseY, hAmount, vAmount)) {
             return true;
         }
         return super.mouseScrolled(mouseX, mouseY, hAmount, vAmount);
     }
 
-    @Override
-    public boolean keyPressed(KeyInput keyInput) {
+    private boolean handleKey(KeyInput keyInput) {
         int key = keyInput.key();
         int mod = keyInput.modifiers();
         FocusManager fm = FocusManager.getInstance();
 
+        // F6 — toggle the debug overlay (latency and allocation per section)
+        if (key == 295) {
+            debugOverlay = !debugOverlay;
+            Metrics.setOverlay(debugOverlay);
+            return true;
+        }
         // Tab / Shift-Tab — cycle action buttons
         if (key == 258) {
             if ((mod & 1) != 0) fm.navigatePrevious(); else fm.navigateNext();
             return true;
         }
-        // Arrow keys — navigate plot grid (3 cols × 2 rows)
-        switch (key) {
-            case 265 -> { // UP — move to row above
-                if (selectedPlot >= 3) {
-                    selectPlot(selectedPlot - 3);
-                } else {
-                    UISoundManager.playBoundary();  // v1.8.0
-                    shakeHelper.triggerLight();  // v1.8.0
-                }
-                return true;
+        // Arrow keys — navigate plot grid (3 cols × 2 rows, within the page)
+        if (!shopMode) {
+            int slot = slotOf(selectedPlot);
+            int row = slot / GRID_COLS, col = slot % GRID_COLS;
+            int target = -1;
+            switch (key) {
+                case 265 -> target = row > 0 ? slot - GRID_COLS : -1;                 // UP
+                case 264 -> target = row < GRID_ROWS - 1 ? slot + GRID_COLS : -1;     // DOWN
+                case 263 -> target = row * GRID_COLS + (col == 0 ? GRID_COLS - 1 : col - 1); // LEFT (wrap)
+                case 262 -> target = row * GRID_COLS + (col == GRID_COLS - 1 ? 0 : col + 1); // RIGHT (wrap)
+                default -> slot = -1;
             }
-            case 264 -> { // DOWN — move to row below
-                if (selectedPlot < 3) {
-                    selectPlot(selectedPlot + 3);
+            if (slot >= 0) {
+                if (target >= 0 && plotAt(target) < plots.size()) {
+                    selectPlot(plotAt(target));
                 } else {
                     UISoundManager.playBoundary();  // v1.8.0
                     shakeHelper.triggerLight();  // v1.8.0
                 }
                 return true;
             }
-            case 263 -> { // LEFT — previous plot (wrap within row)
-                int row = selectedPlot / 3;
-                int col = selectedPlot % 3;
-                selectPlot(row * 3 + (col == 0 ? 2 : col - 1));
-                return true;
-            }
-            case 262 -> { // RIGHT — next plot (wrap within row)
-                int row = selectedPlot / 3;
-                int col = selectedPlot % 3;
-                selectPlot(row * 3 + (col == 2 ? 0 : col + 1));
-                return true;
-            }
+        }
+        // Page Up / Page Down — page through the plot grid
+        if ((key == 266 || key == 267) && !shopMode && !cropPickerMode) {
+            pageGrid(key == 266 ? -1 : 1);
+            return true;
         }
         // Enter / Space — smart action on selected plot, or activate focused button
         if (key == 257 || key == 32) {
@@ -2359,11 +2699,11 @@ public class SampleMenuScreen extends Screen {
             } else {
                 // Smart action: harvest > water > plant
                 int p = selectedPlot;
-                if (cropType[p] >= 0 && cropGrowth[p] >= 1.0f) {
+                if (plots.type[p] >= 0 && plots.growth[p] >= 1.0f) {
                     onHarvest();
-                } else if (cropType[p] >= 0 && !watered[p] && cropGrowth[p] < 1.0f) {
+                } else if (plots.type[p] >= 0 && !plots.watered[p] && plots.growth[p] < 1.0f) {
                     onWater();
-                } else if (cropType[p] < 0) {
+                } else if (plots.type[p] < 0) {
                     onPlantClicked();
                 } else {
                     // Already watered + growing — no action, try button
@@ -2372,9 +2712,10 @@ public class SampleMenuScreen extends Screen {
                 return true;
             }
         }
-        // Number keys 1-6 select plots (skip in shop mode — 1/2/3 buy items instead)
+        // Number keys 1-6 select plots on the current page (skip in shop mode — 1/2/3 buy items instead)
         if (key >= 49 && key <= 54 && !shopMode) {
-            selectPlot(key - 49);
+            if (plotAt(key - 49) < plots.size()) selectPlot(plotAt(key - 49));
+            else UISoundManager.playBoundary();
             return true;
         }
         // v7: Number keys 1/2/3 buy shop items when shop is open
@@ -2391,7 +2732,10 @@ public class SampleMenuScreen extends Screen {
         if (!cropPickerMode && !shopMode) {
             boolean shift = (mod & 1) != 0;
             switch (key) {
-                case 80 -> { onPlantClicked(); return true; }  // P = Plant
+                case 80 -> {                                     // P / Shift+P
+                    if (shift) { onReplantAll(); } else { onPlantClicked(); }
+                    return true;
+                }
                 case 87 -> {                                     // W / Shift+W
                     if (shift) { onWaterAll(); } else { onWater(); }
                     return true;
@@ -2426,21 +2770,23 @@ public class SampleMenuScreen extends Screen {
 
     @Override
     public void removed() {
+        updates.flush();  // closing mid-event (Escape, prestige): apply held state first
+
         // ── Persist farm state back to static + disk ──────────────────
         farmData.gold        = goldState.get();
         farmData.harvests    = harvestCount.get();
-        farmData.seasonIndex = seasonIndex;
-        farmData.seasonTicks = seasonTicks;
         farmData.selectedPlot = selectedPlot;
         farmData.lastClosedTime = System.currentTimeMillis();
-        // cropGrowth, cropType, watered are already references into farmData
+        // Plot state and the season/water clocks are
+        // already advanced in farmData by the simulation.
         // v6 upgrade fields (soilLevel, etc.) update farmData directly
-        farmData.saveToFile();
+        saveFarm();
 
         FocusManager fm = FocusManager.getInstance();
         fm.clear();
         fm.clearFocusChangeListeners();
         AnimationTicker.getInstance().cancelAll();
+        anims.cancelAll();
         FloatingText.clearAll();  // v1.8.0: clear any active toasts
         goldState.clearListeners();
         seasonState.clearListeners();
@@ -2449,133 +2795,273 @@ public class SampleMenuScreen extends Screen {
     }
 
     /**
-     * Simulate crop growth that would have occurred while the UI was closed.
-     * Uses saved lastClosedTime to compute elapsed ticks.
+     * Load every farm and bind the active one, if not done yet; otherwise
+     * make sure no background step is still running on it.
      */
-    private static void catchUpOfflineGrowth() {
-        if (farmData.lastClosedTime <= 0) return;
-        long elapsedMs = System.currentTimeMillis() - farmData.lastClosedTime;
-        if (elapsedMs <= 500) return; // ignore sub-second gaps
-
-        int elapsedTicks = (int) (elapsedMs / 50); // 20 ticks/second
-        if (elapsedTicks <= 0) return;
-
-        // ── Advance seasons (variable duration per season) ────────
-        int remainingTicks = elapsedTicks;
-        int seasonsAdvanced = 0;
-        int si = farmData.seasonIndex;
-        int st = farmData.seasonTicks;
-        while (remainingTicks > 0) {
-            int left = SEASON_TICKS[si] - st;
-            if (remainingTicks >= left) {
-                remainingTicks -= left;
-                si = (si + 1) % 4;
-                st = 0;
-                seasonsAdvanced++;
-            } else {
-                st += remainingTicks;
-                remainingTicks = 0;
-            }
+    private static void ensureFarmLoaded() {
+        if (!logSpillChecked) {
+            logSpillChecked = true;
+            if (Boolean.getBoolean("virtualfarm.logFile")) activityLog.spillTo(saveDir().resolve(LOG_FILE));
         }
-        farmData.seasonIndex = si;
-        farmData.seasonTicks = st;
-
-        // ── Grow crops ──────────────────────────────────────────────
-        // Simplified: uses the final season modifier as an average
-        float seasonMod = 1.0f;
-        if (farmData.seasonIndex == 1) seasonMod = 1.5f;       // Summer
-        else if (farmData.seasonIndex == 3) seasonMod = 0.3f;  // Winter
-
-        int cropsGrown = 0;
-        int cropsMatured = 0;
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (farmData.cropType[i] >= 0 && farmData.cropGrowth[i] < 1.0f) {
-                float speed = GROW_SPEEDS[farmData.cropType[i]];
-                // v6: Soil upgrade bonus (+20% per level)
-                float soilBonus = 1.0f + farmData.soilLevel * 0.2f;
-                // Watered bonus: applies for first 200 ticks (10s), then evaporates
-                int wateredTicks = farmData.watered[i] ? Math.min(elapsedTicks, 200) : 0;
-                int regularTicks = elapsedTicks - wateredTicks;
-                float growth = speed * seasonMod * soilBonus * 0.02f * (wateredTicks * 2.0f + regularTicks);
-                float before = farmData.cropGrowth[i];
-                farmData.cropGrowth[i] = Math.min(1.0f, farmData.cropGrowth[i] + growth);
-                cropsGrown++;
-                if (before < 1.0f && farmData.cropGrowth[i] >= 1.0f) cropsMatured++;
-            }
+        if (farm != null) {
+            farms.settle(farm);
+            return;
         }
-
-        // ── Evaporate water after 200 offline ticks ─────────────────
-        if (elapsedTicks >= 200) {
-            for (int i = 0; i < NUM_PLOTS; i++) farmData.watered[i] = false;
+        if (farms == null) farms = newScheduler();
+        if (!farmsOpened) {
+            farmsOpened = true;
+            farms.openAll();  // every saved farm keeps growing, shown or not
         }
+        bind(farms.open(activeFarmName));
+    }
 
-        farmData.lastClosedTime = 0; // consumed
-
-        int secs = (int) (elapsedMs / 1000);
-        System.out.println("[TestCoreMod] Offline catch-up: " + secs + "s elapsed, "
-                + cropsGrown + " crops grew, " + cropsMatured + " matured, "
-                + seasonsAdvanced + " season(s) passed.");
+    private static FarmScheduler newScheduler() {
+        FarmScheduler s = new FarmScheduler(saveDir());
+        s.onFault(SampleMenuScreen::farmFaulted);
+        return s;
     }
 
-    /** Reset farm to fresh state (for testing). Called by /uisample reset. */
-    public static void resetFarm() {
-        farmData = null;
-        offscreenTicks = 0;
-        try {
-            Path dir = MinecraftClient.getInstance().runDirectory.toPath();
-            Files.deleteIfExists(dir.resolve("farm_save.json"));
-        } catch (Exception ignored) {}
+    /**
+     * The scheduler unloaded {@code f} after its tick threw. If it is the
+     * shown farm, fall back to the default farm (reloaded from its last
+     * snapshot if it was the one) so the UI stops editing a farm that is
+     * no longer stepped or saved.
+     */
+    private static void farmFaulted(Farm f) {
+        SampleModClient.LOGGER.error("[TestCoreMod] Farm '{}' stopped after an error", f.data.farmName, f.fault());
+        if (f != farm) return;
+        journal.record(null);  // a recording of it can't be finished
+        warm = null;           // its tree shows the dropped farm
+        activeFarmName = FarmScheduler.DEFAULT_FARM;
+        bind(farms.open(activeFarmName));
     }
 
-    // ═══════════════════════════════════════════════════════════════════
-    //  BACKGROUND (OFFSCREEN) TICK — grows crops when UI is closed
-    //  Called by SampleModClient via ClientTickEvents.END_CLIENT_TICK.
-    //  Returns a notification string if a crop just matured, else null.
-    // ═══════════════════════════════════════════════════════════════════
-    public static String tickOffscreen() {
-        if (farmData == null) return null;
-        // Skip if the farm screen is currently open (its own tick handles growth)
-        MinecraftClient mc = MinecraftClient.getInstance();
-        if (mc.currentScreen instanceof SampleMenuScreen) return null;
+    private static void bind(Farm f) {
+        farm       = f;
+        farmData   = f.data;
+        simulation = f.sim;
+        journal    = f.journal;
+    }
 
-        offscreenTicks++;
-        String notification = null;
+    /**
+     * Resize the farm to {@code count} plots (called from /uisample plots).
+     * Plots past the new count are discarded. Returns the new plot count.
+     */
+    public static int resizeFarm(int count) {
+        ensureFarmLoaded();
+        endRecordingBeforeReset();
+        int n = Math.max(1, Math.min(PlotStore.MAX_PLOTS, count));
+        farmData.plots.resize(n);
+        farmData.selectedPlot = Math.min(farmData.selectedPlot, n - 1);
+        journal.resize(n);
+        saveFarm();
+        return n;
+    }
 
-        // ── Grow crops ───────────────────────────────────────────────
-        for (int i = 0; i < NUM_PLOTS; i++) {
-            if (farmData.cropType[i] >= 0 && farmData.cropGrowth[i] < 1.0f) {
-                float speed = GROW_SPEEDS[farmData.cropType[i]] * (farmData.watered[i] ? 2.0f : 1.0f);
-                // v6: Soil upgrade bonus (+20% per level)
-                speed *= (1.0f + farmData.soilLevel * 0.2f);
-                if (farmData.seasonIndex == 1) speed *= 1.5f;       // Summer
-                else if (farmData.seasonIndex == 3) speed *= 0.3f;  // Winter
+    /**
+     * Queue a save: snapshot the farm (lazily-grown plots brought up to date
+     * first) and let the save service write it off-thread.
+     */
+    private static void saveFarm() {
+        farm.save();
+    }
 
-                farmData.cropGrowth[i] = Math.min(1.0f, farmData.cropGrowth[i] + speed * 0.02f);
+    // ── Recording / replay (/uisample record, /uisample replay) ──────
 
-                if (farmData.cropGrowth[i] >= 1.0f) {
-                    notification = "\u2714 " + CROP_NAMES[farmData.cropType[i]] + " ready in P" + (i + 1) + "!";
-                }
-            }
+    /** Start recording inputs from the current state. Returns a status line. */
+    public static String startRecording() {
+        ensureFarmLoaded();
+        if (journal.recording() != null) {
+            return "Already recording (" + journal.recording().recordCount() + " inputs so far).";
         }
+        saveFarm();  // synced state with journalSeq = last record: the replay's starting point
+        journal.record(new FarmRecording(farmData));
+        return "Recording farm inputs. Stop with /uisample record stop.";
+    }
 
-        // ── Season cycle (per-season duration) ─────────────────────
-        farmData.seasonTicks++;
-        if (farmData.seasonTicks >= SEASON_TICKS[farmData.seasonIndex]) {
-            farmData.seasonTicks = 0;
-            farmData.seasonIndex = (farmData.seasonIndex + 1) % 4;
+    /** Stop recording and write {@link FarmRecording#FILE}. Returns a status line. */
+    public static String stopRecording() {
+        if (journal == null || journal.recording() == null) return "Not recording.";
+        farms.settle(farm);
+        saveFarm();
+        FarmRecording rec = journal.recording();
+        journal.record(null);
+        try {
+            SaveService.writeAtomically(saveDir().resolve(FarmRecording.FILE), rec.finish(farmData));
+        } catch (IOException e) {
+            System.err.println("[TestCoreMod] Failed to write recording: " + e.getMessage());
+            return "Failed to write " + FarmRecording.FILE + ": " + e.getMessage();
         }
+        System.out.println("[TestCoreMod] Recorded " + rec.recordCount() + " inputs to " + FarmRecording.FILE);
+        return "Recorded " + rec.recordCount() + " inputs to " + FarmRecording.FILE + ".";
+    }
 
-        // ── Water evaporation (every 200 ticks = 10s) ────────────────
-        if (offscreenTicks % 200 == 0) {
-            for (int i = 0; i < NUM_PLOTS; i++) farmData.watered[i] = false;
+    /** Re-run {@link FarmRecording#FILE} headless and check it ends identical. Returns a status line. */
+    public static String replayRecording() {
+        Path file = saveDir().resolve(FarmRecording.FILE);
+        try {
+            if (!Files.exists(file)) return "No recording \u2014 use /uisample record start first.";
+            FarmRecording.Result r = FarmRecording.replay(ByteBuffer.wrap(Files.readAllBytes(file)));
+            String line = "Replayed " + r.inputs + " inputs over " + r.ticks + " ticks in "
+                    + String.format("%.2f", r.nanos / 1e6) + " ms \u2014 "
+                    + (r.identical() ? "identical to the recorded run." : "DIFFERS at byte " + r.firstDifference + ".");
+            System.out.println("[TestCoreMod] " + line);
+            return line;
+        } catch (Exception e) {
+            System.err.println("[TestCoreMod] Replay failed: " + e.getMessage());
+            return "Replay failed: " + e.getMessage();
         }
+    }
+
+    /** Reseed the farm's reward RNG. */
+    public static void seedFarm(long seed) {
+        ensureFarmLoaded();
+        farmData.rng.reseed(seed);
+        journal.seed(seed);
+        saveFarm();
+    }
 
-        // ── Periodic save (every 600 ticks = 30s) ────────────────────
-        if (offscreenTicks % 600 == 0) {
-            farmData.lastClosedTime = System.currentTimeMillis();
-            farmData.saveToFile();
+    /** Prestige/resize reshape the whole farm — close the recording first, so it stays one farm. */
+    private static void endRecordingBeforeReset() {
+        if (journal.recording() != null) {
+            System.out.println("[TestCoreMod] Farm reset/resized while recording: " + stopRecording());
         }
+    }
+
+    // ── Multiple farms (/uisample farm, /uisample farms) ─────────────
+
+    /**
+     * Show the farm called {@code name} from now on, creating it if new.
+     * Returns a status line.
+     */
+    public static String switchFarm(String name) {
+        ensureFarmLoaded();
+        if (FarmScheduler.idOf(name).equals(farm.id)) return "Already on " + farmData.farmName + ".";
+        Farm next;
+        try {
+            next = farms.open(name);
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+        endRecordingBeforeReset();
+        saveFarm();
+        activeFarmName = name;
+        bind(next);
+        MinecraftClient mc = MinecraftClient.getInstance();
+        if (mc.currentScreen instanceof SampleMenuScreen) mc.setScreen(open());
+        return "Now farming " + farmData.farmName + " (" + farms.farms().size() + " farms loaded).";
+    }
+
+    /** One line per loaded farm, the shown one marked. */
+    public static String listFarms() {
+        ensureFarmLoaded();
+        StringBuilder sb = new StringBuilder();
+        for (Farm f : farms.farms()) {
+            if (sb.length() > 0) sb.append('\n');
+            sb.append(f == farm ? "\u25B6 " : "  ").append(f.data.farmName)
+              .append(" \u2014 ").append(f.data.plots.size()).append(" plots, ")
+              .append(f.data.gold).append(" gold");
+        }
+        return sb.toString();
+    }
 
-        return notification;
+    /** Set the background simulation's per-tick budget (µs, 0 = unlimited). Returns a status line. */
+    public static String setTickBudget(int micros) {
+        ensureFarmLoaded();
+        farms.setBudgetMicros(micros);
+        return tickBudgetStatus();
+    }
+
+    /** Current budget and how often the background simulation has hit it. */
+    public static String tickBudgetStatus() {
+        ensureFarmLoaded();
+        int us = farms.budgetMicros();
+        return "Farm tick budget: " + (us == 0 ? "unlimited" : us + " \u00B5s")
+                + " \u2014 " + farms.overruns() + " overrun tick(s), "
+                + farms.catchUps() + " catch-up(s).";
+    }
+
+    /** Set how many activity log entries are kept (/uisample log capacity). Returns a status line. */
+    public static String setLogCapacity(int capacity) {
+        activityLog.setCapacity(capacity);
+        return logStatus();
+    }
+
+    /** Turn the rotating activity log file on or off (/uisample log file). Returns a status line. */
+    public static String setLogFile(boolean on) {
+        logSpillChecked = true;
+        activityLog.spillTo(on ? saveDir().resolve(LOG_FILE) : null);
+        return logStatus();
+    }
+
+    public static String logStatus() {
+        Path file = activityLog.spillFile();
+        return "Activity log: " + activityLog.size() + "/" + activityLog.capacity() + " entries ("
+                + activityLog.total() + " this session), file "
+                + (file == null ? "off" : file.getFileName() + " (rotates at 1 MiB)") + ".";
+    }
+
+    /** Latency/allocation report for /uisample stats, one line per section. */
+    public static String statsReport() {
+        StringBuilder sb = new StringBuilder("Stats ")
+                .append(Metrics.recording() ? "(recording)" : debugOverlay ? "(overlay only)" : "(off \u2014 /uisample stats on)");
+        for (String line : Metrics.report()) sb.append('\n').append(line);
+        sb.append('\n').append(lastOpenLine());
+        sb.append("\nGrowth kernels: ").append(GrowthKernels.describe());
+        if (farms != null) sb.append('\n').append(tickBudgetStatus());
+        return sb.toString();
+    }
+
+    /** Start or stop collecting stats while the overlay is hidden. Returns a status line. */
+    public static String setStatsRecording(boolean on) {
+        Metrics.setRecording(on);
+        return on ? "Stats recording on." : "Stats recording off" + (debugOverlay ? " (F6 overlay still collects)." : ".");
+    }
+
+    /** Clear every histogram and counter. */
+    public static String resetStats() {
+        Metrics.reset();
+        worstOpenLogged = OPEN_BUDGET_NANOS;
+        return "Stats cleared.";
+    }
+
+    /** Final save on client shutdown; waits briefly for the writer to finish. */
+    public static void onClientStopping() {
+        activityLog.shutdown(1000);
+        if (farms == null) return;
+        if (journal != null && journal.recording() != null) stopRecording();
+        farms.shutdown(2000);
+    }
+
+    /** Reset the shown farm to a fresh state (for testing). Called by /uisample reset. */
+    public static void resetFarm() {
+        farm = null;
+        farmData = null;
+        simulation = null;
+        journal = null;
+        if (farms == null) farms = newScheduler();  // not loaded yet: just delete the files
+        farms.delete(activeFarmName);
+    }
+
+    /** Directory holding the farm save (the Minecraft run directory). */
+    private static Path saveDir() {
+        return MinecraftClient.getInstance().runDirectory.toPath();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  BACKGROUND (OFFSCREEN) TICK — grows crops when UI is closed
+    //  Called by SampleModClient via ClientTickEvents.END_CLIENT_TICK.
+    //  Returns a notification string if a crop just matured, else null.
+    // ═══════════════════════════════════════════════════════════════════
+    public static String tickOffscreen() {
+        if (farms == null) return null;
+        // The open screen grows its own farm (its tick drives the UI); every
+        // other farm is stepped here, in parallel, within the tick budget
+        MinecraftClient mc = MinecraftClient.getInstance();
+        Farm shown = mc.currentScreen instanceof SampleMenuScreen ? farm : null;
+        long probe = Metrics.OFFSCREEN.begin();
+        String notice = farms.tick(shown);
+        Metrics.OFFSCREEN.end(probe);
+        return notice;
     }
 }
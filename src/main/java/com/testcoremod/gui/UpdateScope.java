@@ -0,0 +1,88 @@
+package com.testcoremod.gui;
+
+import com.pocketuicore.data.ObservableState;
+
+import java.util.ArrayList;
+
+/**
+ * UpdateScope — holds back {@link ObservableState} listeners until the
+ * current tick or input event is over.
+ *
+ * The farm screen's gold, season and harvest-count states are
+ * {@link Held} states. While a scope is open ({@link #begin}/{@link #end},
+ * nestable), {@code set} only records the new value and {@code get}
+ * returns it, so {@code set(get() + x)} chains keep working; when the
+ * outermost scope ends each changed state fires its listeners once with
+ * its final value — one label update and one journaled gold delta per
+ * action, however many mutations it made. A value that ends where it
+ * started fires nothing ({@code ObservableState.set} skips equal values).
+ * Outside a scope a held state behaves exactly like a plain one.
+ *
+ * Game thread only.
+ */
+final class UpdateScope {
+
+    private int depth;
+    private final ArrayList<Held<?>> pending = new ArrayList<>();
+
+    /** An {@link ObservableState} whose updates this scope can hold back. */
+    <T> ObservableState<T> state(T initial) {
+        return new Held<>(this, initial);
+    }
+
+    void begin() {
+        depth++;
+    }
+
+    void end() {
+        if (--depth == 0) flush();
+    }
+
+    /**
+     * Fire every held update now, even inside a scope (before the screen
+     * is torn down mid-event).
+     */
+    void flush() {
+        for (int i = 0; i < pending.size(); i++) pending.get(i).release();
+        pending.clear();
+    }
+
+    static final class Held<T> extends ObservableState<T> {
+        private final UpdateScope scope;
+        private T       value;
+        private boolean held;
+
+        Held(UpdateScope scope, T initial) {
+            super(initial);
+            this.scope = scope;
+        }
+
+        @Override
+        public T get() {
+            return held ? value : super.get();
+        }
+
+        @Override
+        public void set(T v) {
+            if (scope.depth > 0) {
+                value = v;
+                if (!held) {
+                    held = true;
+                    scope.pending.add(this);
+                }
+                return;
+            }
+            held = false;  // a listener setting us during a flush wins over the older held value
+            value = null;
+            super.set(v);
+        }
+
+        private void release() {
+            if (!held) return;
+            T v = value;
+            held = false;
+            value = null;
+            super.set(v);
+        }
+    }
+}
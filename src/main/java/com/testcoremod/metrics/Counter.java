@@ -0,0 +1,33 @@
+package com.testcoremod.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter — a named event count, cheap to bump from any thread.
+ * Like {@link Probe}, it does nothing while {@link Metrics} is off.
+ */
+public final class Counter {
+
+    public final String name;
+    private final LongAdder total = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        if (Metrics.enabled()) total.increment();
+    }
+
+    public void add(long n) {
+        if (n != 0 && Metrics.enabled()) total.add(n);
+    }
+
+    public long get() {
+        return total.sum();
+    }
+
+    void reset() {
+        total.reset();
+    }
+}
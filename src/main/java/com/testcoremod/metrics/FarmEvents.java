@@ -0,0 +1,88 @@
+package com.testcoremod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * FarmEvents — Java Flight Recorder events for the farm's own work, so a
+ * recording of the client separates VirtualFarm from vanilla.
+ *
+ * Any JFR recording picks them up (e.g. {@code -XX:StartFlightRecording}
+ * or {@code jcmd <pid> JFR.start}); list them with
+ * {@code jfr print --events 'virtualfarm.*' recording.jfr}. Call sites use
+ * the usual pattern:
+ * <pre>
+ *   FarmEvents.Save e = new FarmEvents.Save();
+ *   e.begin();
+ *   …
+ *   if (e.shouldCommit()) { e.path = …; e.commit(); }
+ * </pre>
+ * When no recording has the event enabled, {@code begin}/{@code shouldCommit}
+ * are no-ops and the JIT removes the allocation, so the events stay in
+ * place permanently. Independent of {@link Metrics}.
+ */
+public final class FarmEvents {
+
+    private FarmEvents() {}
+
+    @Name("virtualfarm.Step")
+    @Label("Farm Step")
+    @Category({"VirtualFarm", "Simulation"})
+    @Description("Ticks of growth, seasons and water advanced in one call")
+    public static final class Step extends Event {
+        @Label("Farm") public String farm;
+        @Label("Ticks") public int ticks;
+        @Label("Plots") @Description("Plots on the farm") public int plots;
+        @Label("Plots Matured") public int matured;
+    }
+
+    @Name("virtualfarm.CatchUp")
+    @Label("Farm Catch-Up")
+    @Category({"VirtualFarm", "Simulation"})
+    @Description("Closed-form growth over a gap (offline time, or a background farm far behind)")
+    public static final class CatchUp extends Event {
+        @Label("Farm") public String farm;
+        @Label("Elapsed Ticks") public long elapsedTicks;
+        @Label("Plots Processed") @Description("Plots still growing at the start") public int plots;
+        @Label("Plots Matured") public int matured;
+        @Label("Seasons Passed") public long seasons;
+        @Label("Vectorised") public boolean vector;
+    }
+
+    @Name("virtualfarm.Harvest")
+    @Label("Harvest")
+    @Category({"VirtualFarm", "Player"})
+    public static final class Harvest extends Event {
+        @Label("Farm") public String farm;
+        @Label("Plot") public int plot;
+        @Label("Crop") public String crop;
+        @Label("Reward") public int reward;
+        @Label("Lucky") public boolean lucky;
+    }
+
+    @Name("virtualfarm.Save")
+    @Label("Farm Save")
+    @Category({"VirtualFarm", "I/O"})
+    @Description("A snapshot or a batch of journal records written to disk")
+    public static final class Save extends Event {
+        @Label("Path") public String path;
+        @Label("Kind") @Description("snapshot or journal") public String kind;
+        @Label("Bytes Written") @DataAmount public long bytes;
+        @Label("Journal Records") public int records;
+    }
+
+    @Name("virtualfarm.Load")
+    @Label("Farm Load")
+    @Category({"VirtualFarm", "I/O"})
+    public static final class Load extends Event {
+        @Label("Path") public String path;
+        @Label("Bytes Read") @DataAmount public long bytes;
+        @Label("Plots") public int plots;
+        @Label("Legacy JSON") public boolean legacy;
+        @Label("Found") public boolean found;
+    }
+}
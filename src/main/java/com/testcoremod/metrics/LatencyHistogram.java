@@ -0,0 +1,87 @@
+package com.testcoremod.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram — fixed-size, log-linear histogram of nanosecond values.
+ *
+ * Same bucketing idea as HdrHistogram: each power of two is split into
+ * {@value #HALF} linear sub-buckets, so any recorded value is reported
+ * within ~3% and the whole range (1 ns … ~68 s) fits in about a thousand
+ * counters allocated up front. {@link #record} is a few shifts plus atomic
+ * adds — lock-free, allocation-free and safe from any thread. Reads while
+ * other threads record may be a few counts apart, which is fine for stats.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB      = 1 << SUB_BITS;   // values below this get one bucket each
+    private static final int HALF     = SUB >> 1;        // sub-buckets per power of two above that
+    private static final int MAX_BIT  = 36;              // 2^36 ns ≈ 68 s; larger values are clamped
+    private static final int BUCKETS  = SUB + (MAX_BIT - SUB_BITS + 1) * HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum   = new AtomicLong();
+    private final AtomicLong max   = new AtomicLong();
+
+    public void record(long nanos) {
+        long v = Math.max(0, nanos);
+        counts.incrementAndGet(index(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /** Value at or below which {@code percent}% of recordings fall (bucket upper bound). */
+    public long percentile(double percent) {
+        long n = count.get();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(highestIn(i), max.get());
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    // ── Bucketing ───────────────────────────────────────────────────────
+
+    private static int index(long v) {
+        if (v < SUB) return (int) v;
+        int msb = Math.min(63 - Long.numberOfLeadingZeros(v), MAX_BIT);
+        int shift = msb - SUB_BITS + 1;
+        int top = (int) Math.min(v >>> shift, SUB - 1);  // clamped values land in the last bucket
+        return SUB + (shift - 1) * HALF + (top - HALF);
+    }
+
+    private static long highestIn(int index) {
+        if (index < SUB) return index;
+        int k = index - SUB;
+        int shift = k / HALF + 1;
+        long top = k % HALF + HALF;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,144 @@
+package com.testcoremod.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Metrics — the mod's built-in profiler.
+ *
+ * A fixed set of {@link Probe}s (latency histograms plus allocation
+ * estimates) and {@link Counter}s, wrapped around the screen's tick,
+ * render and time to first frame, the offscreen simulation, and save/load.
+ * Everything is off by default: each call site then costs one volatile
+ * read. It switches on while {@code /uisample stats on} is recording, while
+ * the F6 debug overlay is shown, or from the start with
+ * {@code -Dvirtualfarm.metrics=true}.
+ *
+ * Probes are static so the farm package can record without being handed
+ * a context; all of it is thread-safe.
+ */
+public final class Metrics {
+
+    // ── Probes ──────────────────────────────────────────────────────────
+    public static final Probe SCREEN_TICK = new Probe("screen.tick");
+    public static final Probe RENDER      = new Probe("screen.render");
+    /** Screen constructed (G pressed) → end of its first rendered frame. */
+    public static final Probe OPEN        = new Probe("screen.open");
+    public static final Probe OFFSCREEN   = new Probe("tickOffscreen");
+    public static final Probe FARM_STEP   = new Probe("farm.step");
+    public static final Probe SAVE_ENCODE = new Probe("save.encode");
+    public static final Probe SAVE_WRITE  = new Probe("save.write");
+    public static final Probe LOAD        = new Probe("load");
+
+    // ── Counters ────────────────────────────────────────────────────────
+    public static final Counter TICKS_SIMULATED = new Counter("ticks simulated");
+    public static final Counter PLOTS_MATURED   = new Counter("plots matured");
+    public static final Counter JOURNAL_RECORDS = new Counter("journal records");
+
+    private static final Probe[]   PROBES   = {SCREEN_TICK, RENDER, OPEN, OFFSCREEN, FARM_STEP, SAVE_ENCODE, SAVE_WRITE, LOAD};
+    private static final Counter[] COUNTERS = {TICKS_SIMULATED, PLOTS_MATURED, JOURNAL_RECORDS};
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private static volatile boolean enabled;
+    private static boolean recording = Boolean.getBoolean("virtualfarm.metrics");
+    private static boolean overlay;
+
+    private static long windowStart;
+    private static final long[] windowCounts = new long[COUNTERS.length];
+    private static List<String> overlayLines = List.of();
+
+    static {
+        enabled = recording;
+    }
+
+    private Metrics() {}
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static synchronized boolean recording() {
+        return recording;
+    }
+
+    /** {@code /uisample stats on|off}. */
+    public static synchronized void setRecording(boolean on) {
+        recording = on;
+        enabled = recording || overlay;
+    }
+
+    /** The F6 overlay needs live numbers while it is shown. */
+    public static synchronized void setOverlay(boolean on) {
+        overlay = on;
+        enabled = recording || overlay;
+        if (on) rollWindow(System.nanoTime());
+    }
+
+    public static synchronized void reset() {
+        for (Probe p : PROBES) p.reset();
+        for (Counter c : COUNTERS) c.reset();
+        Arrays.fill(windowCounts, 0);
+        windowStart = System.nanoTime();
+        overlayLines = List.of();
+    }
+
+    // ── Reporting ───────────────────────────────────────────────────────
+
+    /** Lifetime report for {@code /uisample stats}. */
+    public static synchronized List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Probe p : PROBES) lines.add(p.report());
+        StringBuilder sb = new StringBuilder();
+        for (Counter c : COUNTERS) {
+            if (sb.length() > 0) sb.append("  ");
+            sb.append(c.name).append(' ').append(c.get());
+        }
+        lines.add(sb.toString());
+        if (!Probe.allocSupported()) lines.add("(allocation estimates unavailable on this JVM)");
+        return lines;
+    }
+
+    /**
+     * Overlay text for the last full second. Rebuilt at most once a
+     * second, so drawing it every frame allocates nothing new.
+     */
+    public static synchronized List<String> overlayLines() {
+        long now = System.nanoTime();
+        if (now - windowStart >= WINDOW_NANOS) rollWindow(now);
+        return overlayLines;
+    }
+
+    private static void rollWindow(long now) {
+        List<String> lines = new ArrayList<>(PROBES.length + 1);
+        for (Probe p : PROBES) {
+            p.roll();
+            lines.add(p.windowLine());
+        }
+        StringBuilder sb = new StringBuilder("per second:");
+        for (int i = 0; i < COUNTERS.length; i++) {
+            long total = COUNTERS[i].get();
+            sb.append("  ").append(COUNTERS[i].name).append(' ').append(total - windowCounts[i]);
+            windowCounts[i] = total;
+        }
+        lines.add(sb.toString());
+        overlayLines = List.copyOf(lines);
+        windowStart = now;
+    }
+
+    // ── Formatting ──────────────────────────────────────────────────────
+
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format("%.1fµs", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format("%.2fms", nanos / 1e6);
+        return String.format("%.2fs", nanos / 1e9);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + "B";
+        if (bytes < 1024 * 1024) return String.format("%.1fKB", bytes / 1024.0);
+        return String.format("%.1fMB", bytes / (1024.0 * 1024.0));
+    }
+}
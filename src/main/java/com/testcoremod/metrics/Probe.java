@@ -0,0 +1,133 @@
+package com.testcoremod.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Probe — latency and allocation of one instrumented section.
+ *
+ * <pre>
+ *   long t = Metrics.RENDER.begin();
+ *   …
+ *   Metrics.RENDER.end(t);
+ * </pre>
+ * While {@link Metrics} is disabled, {@code begin} returns 0 after one
+ * volatile read and {@code end(0)} returns at once. When enabled, it reads
+ * {@code System.nanoTime()} and HotSpot's per-thread allocation counter (a
+ * field read; allocates nothing) at both ends. Sections may run on several
+ * threads at once, but must not nest within themselves on one thread.
+ *
+ * Recordings go into a lifetime histogram and a window histogram that
+ * {@link #roll()} turns into the overlay's "last second" view.
+ */
+public final class Probe {
+
+    private static final com.sun.management.ThreadMXBean MX = threadMx();
+
+    public final String name;
+    final LatencyHistogram total  = new LatencyHistogram();
+    final LatencyHistogram window = new LatencyHistogram();
+    private final AtomicLong allocTotal  = new AtomicLong();
+    private final AtomicLong allocWindow = new AtomicLong();
+    private final ThreadLocal<long[]> allocStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** Fed through {@link #record} — no allocation figures to show. */
+    private volatile boolean externallyTimed;
+    /** Last rolled window, for the overlay. */
+    private String windowLine;
+
+    Probe(String name) {
+        this.name = name;
+        this.windowLine = String.format("%-14s —", name);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMx() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mx
+                    && mx.isThreadAllocatedMemorySupported()) {
+                mx.setThreadAllocatedMemoryEnabled(true);
+                return mx;
+            }
+        } catch (Throwable ignored) {}
+        return null;
+    }
+
+    /** Whether allocation estimates are available on this JVM. */
+    static boolean allocSupported() {
+        return MX != null;
+    }
+
+    /** Start timing; returns the token for {@link #end}, or 0 when metrics are off. */
+    public long begin() {
+        if (!Metrics.enabled()) return 0;
+        if (MX != null) allocStart.get()[0] = MX.getCurrentThreadAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    public void end(long start) {
+        if (start == 0) return;
+        long nanos = System.nanoTime() - start;
+        total.record(nanos);
+        window.record(nanos);
+        if (MX != null) {
+            long bytes = MX.getCurrentThreadAllocatedBytes() - allocStart.get()[0];
+            allocTotal.addAndGet(bytes);
+            allocWindow.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Record a latency measured by the caller, for sections that don't
+     * start and end in one place (e.g. key press to first frame). No
+     * allocation estimate; a no-op while metrics are off.
+     */
+    public void record(long nanos) {
+        if (!Metrics.enabled()) return;
+        externallyTimed = true;
+        total.record(nanos);
+        window.record(nanos);
+    }
+
+    // ── Reporting (game thread) ─────────────────────────────────────────
+
+    /** Fold the window into {@link #windowLine()} and start a new one. */
+    void roll() {
+        long n = window.count();
+        windowLine = n == 0
+                ? String.format("%-14s —", name)
+                : String.format("%-14s %5d  p50 %s  p99 %s  max %s  %s", name, n,
+                        Metrics.formatNanos(window.percentile(50)), Metrics.formatNanos(window.percentile(99)),
+                        Metrics.formatNanos(window.max()), allocPerCall(allocWindow.get(), n));
+        window.reset();
+        allocWindow.set(0);
+    }
+
+    String windowLine() {
+        return windowLine;
+    }
+
+    /** Lifetime summary since the last reset. */
+    String report() {
+        long n = total.count();
+        if (n == 0) return name + ": no samples";
+        return name + ": n=" + n
+                + "  mean " + Metrics.formatNanos((long) total.mean())
+                + "  p50 " + Metrics.formatNanos(total.percentile(50))
+                + "  p90 " + Metrics.formatNanos(total.percentile(90))
+                + "  p99 " + Metrics.formatNanos(total.percentile(99))
+                + "  p99.9 " + Metrics.formatNanos(total.percentile(99.9))
+                + "  max " + Metrics.formatNanos(total.max())
+                + "  " + allocPerCall(allocTotal.get(), n);
+    }
+
+    private String allocPerCall(long bytes, long calls) {
+        return MX == null || externallyTimed ? "" : "~" + Metrics.formatBytes(bytes / calls) + "/call";
+    }
+
+    void reset() {
+        total.reset();
+        window.reset();
+        allocTotal.set(0);
+        allocWindow.set(0);
+    }
+}
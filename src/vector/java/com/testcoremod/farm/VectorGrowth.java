@@ -0,0 +1,83 @@
+package com.testcoremod.farm;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorGrowth — SIMD versions of the {@link GrowthKernels} loops.
+ *
+ * Lives in its own source set ({@code src/vector/java}), the only one
+ * compiled against the incubator module; {@link GrowthKernels} loads it
+ * reflectively when the module is present, so the game runs without it.
+ * Growth and rates are floats but the sums
+ * are done in double, as in the scalar loops: each step loads a float
+ * vector of half the preferred width, widens it to a full double vector,
+ * and narrows the result back for a masked store. Lanes whose rate is 0
+ * (empty or ripe plots) are left untouched.
+ */
+public final class VectorGrowth implements GrowthKernels.Kernel {
+
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    /** Floats with the same lane count as {@link #D}. */
+    private static final VectorSpecies<Float>  F =
+            VectorSpecies.of(float.class, VectorShape.forBitSize(D.vectorBitSize() / 2));
+
+    public VectorGrowth() {}
+
+    @Override
+    public String describe() {
+        return D.length() + " lanes, " + D.vectorBitSize() + "-bit";
+    }
+
+    /** Vector {@link GrowthKernels#sync}. */
+    @Override
+    public void sync(float[] growth, float[] anchorGrowth, float[] rate, double[] anchorClock,
+                            double clock, float cap, int n) {
+        DoubleVector now = DoubleVector.broadcast(D, clock);
+        int i = 0;
+        for (int upper = D.loopBound(n); i < upper; i += D.length()) {
+            FloatVector r = FloatVector.fromArray(F, rate, i);
+            VectorMask<Float> growing = r.compare(VectorOperators.GT, 0f);
+            if (!growing.anyTrue()) continue;
+            DoubleVector g = widen(FloatVector.fromArray(F, anchorGrowth, i))
+                    .add(widen(r).mul(now.sub(DoubleVector.fromArray(D, anchorClock, i))))
+                    .min(cap);
+            narrow(g).intoArray(growth, i, growing);
+        }
+        GrowthKernels.syncScalar(growth, anchorGrowth, rate, anchorClock, clock, cap, i, n);
+    }
+
+    /** Vector {@link GrowthKernels#grow}. */
+    @Override
+    public int grow(float[] growth, float[] rate, float farmMult, double weightedTicks, int n) {
+        int matured = 0;
+        int i = 0;
+        for (int upper = D.loopBound(n); i < upper; i += D.length()) {
+            FloatVector r = FloatVector.fromArray(F, rate, i).mul(farmMult);
+            VectorMask<Float> growing = r.compare(VectorOperators.GT, 0f);
+            if (!growing.anyTrue()) continue;
+            FloatVector g = narrow(widen(FloatVector.fromArray(F, growth, i))
+                    .add(widen(r).mul(weightedTicks))
+                    .min(1.0));
+            g.intoArray(growth, i, growing);
+            VectorMask<Float> ripe = g.compare(VectorOperators.GE, 1.0f).and(growing);
+            if (ripe.anyTrue()) {
+                FloatVector.fromArray(F, rate, i).blend(0f, ripe).intoArray(rate, i);
+                matured += ripe.trueCount();
+            }
+        }
+        return matured + GrowthKernels.growScalar(growth, rate, farmMult, weightedTicks, i, n);
+    }
+
+    private static DoubleVector widen(FloatVector v) {
+        return (DoubleVector) v.convertShape(VectorOperators.F2D, D, 0);
+    }
+
+    private static FloatVector narrow(DoubleVector v) {
+        return (FloatVector) v.convertShape(VectorOperators.D2F, F, 0);
+    }
+}